@@ -1,8 +1,12 @@
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 
-import java.util.Arrays;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.BooleanSupplier;
 import java.util.function.Supplier;
 
 /**
@@ -23,19 +27,111 @@ import java.util.function.Supplier;
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public class AnyMatcher<T> {
 
-    private final Supplier<Boolean> predicate;
+    private static final int PENDING = 0;
+    private static final int SATISFIED = 1;
+    private static final int UNSATISFIED = 2;
+    private static final int FAILED = 3;
+
+    private final BooleanSupplier predicate;
     private final Supplier<T> result;
 
     @SafeVarargs
     public static <T> Optional<T> when(AnyMatcher<T>... matchers) {
-        return Arrays.stream(matchers)
-                .filter(matcher -> matcher.predicate.get())
-                .findFirst()
-                .map(matcher -> matcher.result.get());
+        for (AnyMatcher<T> matcher : matchers) {
+            if (matcher.predicate.getAsBoolean()) return Optional.ofNullable(matcher.result.get());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Same as {@link AnyMatcher#when(AnyMatcher[])}, but evaluates predicates concurrently on virtual threads.
+     *
+     * @see AnyMatcher#whenConcurrently(ExecutorService, AnyMatcher[])
+     */
+    @SafeVarargs
+    public static <T> Optional<T> whenConcurrently(AnyMatcher<T>... matchers) {
+        return whenConcurrently(VirtualThreads.EXECUTOR, matchers);
+    }
+
+    /**
+     * Same as {@link AnyMatcher#when(AnyMatcher[])}, but evaluates all predicates concurrently on given executor.
+     * Useful when predicates are slow (eg. involve lookups), as latency becomes that of the slowest predicate needed
+     * to decide instead of sum of all of them.
+     * <p>
+     * The first satisfied arm in declaration order wins, as soon as all arms before it are known to be unsatisfied.
+     * Predicates still in flight at that point are cancelled (interrupted), and the result is computed on the calling
+     * thread. If a predicate throws before any earlier arm is satisfied, the exception is rethrown, as it would be with
+     * {@link AnyMatcher#when(AnyMatcher[])}.
+     *
+     * @param executor Executor to evaluate predicates on
+     * @param matchers Arms to match
+     * @param <T>      Return type
+     * @return Result of the first satisfied arm, empty if none is satisfied
+     */
+    @SafeVarargs
+    public static <T> Optional<T> whenConcurrently(ExecutorService executor, AnyMatcher<T>... matchers) {
+        AtomicIntegerArray states = new AtomicIntegerArray(matchers.length);
+        Throwable[] failures = new Throwable[matchers.length];
+        Semaphore resolutions = new Semaphore(0);
+        Future<?>[] futures = new Future<?>[matchers.length];
+        try {
+            for (int i = 0; i < matchers.length; i++) {
+                int arm = i;
+                futures[i] = executor.submit(() -> {
+                    try {
+                        states.set(arm, matchers[arm].predicate.getAsBoolean() ? SATISFIED : UNSATISFIED);
+                    } catch (Throwable t) {
+                        failures[arm] = t;
+                        states.set(arm, FAILED);
+                    } finally {
+                        resolutions.release();
+                    }
+                });
+            }
+            int arm = 0;
+            while (arm < matchers.length) {
+                switch (states.get(arm)) {
+                    case PENDING:
+                        resolutions.acquire();
+                        break;
+                    case SATISFIED:
+                        cancelFrom(futures, arm + 1);
+                        return Optional.ofNullable(matchers[arm].result.get());
+                    case UNSATISFIED:
+                        arm++;
+                        break;
+                    default:
+                        // Predicates may throw checked exceptions sneakily, rethrow those unchanged as well
+                        Throwable failure = failures[arm];
+                        if (failure instanceof Error) throw (Error) failure;
+                        if (failure instanceof Exception) throw ExceptionUtils.sneakyThrow((Exception) failure);
+                        throw new RuntimeException(failure);
+                }
+            }
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } finally {
+            cancelFrom(futures, 0);
+        }
     }
 
     public static <T> AnyMatcher<T> satisfies(Supplier<Boolean> predicate, Supplier<T> result) {
+        return new AnyMatcher<>(predicate::get, result);
+    }
+
+    /**
+     * Same as {@link AnyMatcher#satisfies(Supplier, Supplier)}, without boxing the predicate's answer
+     */
+    public static <T> AnyMatcher<T> satisfiesUnboxed(BooleanSupplier predicate, Supplier<T> result) {
         return new AnyMatcher<>(predicate, result);
     }
 
+    private static void cancelFrom(Future<?>[] futures, int from) {
+        for (int i = from; i < futures.length; i++) {
+            if (null != futures[i] && !futures[i].isDone()) futures[i].cancel(true);
+        }
+    }
+
 }
@@ -0,0 +1,202 @@
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * {@link Result} that may not be available yet, chaining operations on completion instead of blocking a thread.
+ * <br>
+ * Backed by a {@link CompletableFuture} of {@link Result} which never completes exceptionally: failures, including
+ * timeouts, are carried as {@link Result.Failure}. Blocking work given as {@link CheckedSupplier} or
+ * {@link CheckedFunction} runs on virtual threads unless another executor is given.
+ * <br>
+ * Usage: <pre>{@code
+ *  AsyncResult.generate(() -> client.fetch(id))
+ *      .mapAsync(response -> parser.parse(response))
+ *      .orTimeout(Duration.ofSeconds(2))
+ *      .consume(this::reply, this::replyError);
+ * }</pre>
+ *
+ * @param <T> Type of data
+ * @see Result
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class AsyncResult<T> {
+
+    private final CompletableFuture<Result<T>> future;
+
+    public static <T> AsyncResult<T> of(@NonNull Result<T> result) {
+        return new AsyncResult<>(CompletableFuture.completedFuture(result));
+    }
+
+    public static <T> AsyncResult<T> succeed(@NonNull T data) {
+        return of(Result.succeed(data));
+    }
+
+    public static <T> AsyncResult<T> fail(@NonNull Exception e) {
+        return of(Result.fail(e));
+    }
+
+    /**
+     * Runs given generator on a virtual thread
+     */
+    public static <T> AsyncResult<T> generate(CheckedSupplier<T> generator) {
+        return generate(generator, VirtualThreads.EXECUTOR);
+    }
+
+    /**
+     * Runs given generator on given executor
+     */
+    public static <T> AsyncResult<T> generate(CheckedSupplier<T> generator, Executor executor) {
+        return new AsyncResult<>(CompletableFuture.supplyAsync(() -> resultOf(generator), executor));
+    }
+
+    /**
+     * @return Async result completing with given stage: succeeding with its value, or failing with its exception
+     * (a null value fails with a {@link NullPointerException}, see {@link AsyncResult#fromVoid(CompletionStage)})
+     */
+    public static <T> AsyncResult<T> from(CompletionStage<T> stage) {
+        return new AsyncResult<>(stage.handle((data, throwable) -> null == throwable
+                ? Result.generate(() -> data)
+                : Result.<T>fail(unwrap(throwable))
+        ).toCompletableFuture());
+    }
+
+    /**
+     * @return Async result completing with given stage run for its effect: succeeding with {@link Result#unit()}
+     * whatever its (null) value, or failing with its exception
+     */
+    public static AsyncResult<Unit> fromVoid(CompletionStage<?> stage) {
+        return new AsyncResult<>(stage.handle((__, throwable) -> null == throwable
+                ? Result.unit()
+                : Result.<Unit>fail(unwrap(throwable))
+        ).toCompletableFuture());
+    }
+
+    /**
+     * Transforms data on the thread completing this result, see {@link Result#map(Function)}
+     */
+    public <R> AsyncResult<R> map(Function<T, R> dataTransformer) {
+        return new AsyncResult<>(future.thenApply(result -> result.map(dataTransformer)));
+    }
+
+    /**
+     * Transforms data with a blocking transformer on a virtual thread
+     */
+    public <R> AsyncResult<R> mapAsync(CheckedFunction<T, R> dataTransformer) {
+        return mapAsync(dataTransformer, VirtualThreads.EXECUTOR);
+    }
+
+    /**
+     * Transforms data with a blocking transformer on given executor
+     */
+    public <R> AsyncResult<R> mapAsync(CheckedFunction<T, R> dataTransformer, Executor executor) {
+        return flatMap(data -> generate(() -> dataTransformer.apply(data), executor));
+    }
+
+    /**
+     * Chains another async operation on data, failing with this result's failure if any
+     */
+    @SuppressWarnings("unchecked")
+    public <R> AsyncResult<R> flatMap(Function<T, AsyncResult<R>> dataTransformer) {
+        return new AsyncResult<>(future.thenCompose(result -> {
+            if (result instanceof Result.Failure) return CompletableFuture.completedFuture((Result<R>) result);
+            try {
+                return dataTransformer.apply(((Result.Success<T>) result).getData()).future;
+            } catch (Exception e) {
+                return CompletableFuture.completedFuture(Result.fail(e));
+            }
+        }));
+    }
+
+    /**
+     * @return Future completing once data or exception has been handled, see {@link Result#consume}
+     */
+    public CompletableFuture<Void> consume(Consumer<T> dataConsumer, Consumer<Exception> exceptionHandler) {
+        return future.thenAccept(result -> {
+            if (result instanceof Result.Success) {
+                dataConsumer.accept(((Result.Success<T>) result).getData());
+            } else {
+                exceptionHandler.accept(((Result.Failure<T>) result).getError());
+            }
+        });
+    }
+
+    /**
+     * @return Future of transformed data, see {@link Result#mapToOptional}
+     */
+    public <R> CompletableFuture<Optional<R>> mapToOptional(
+            Function<T, R> dataTransformer,
+            Consumer<Exception> exceptionHandler
+    ) {
+        return future.thenApply(result -> result.mapToOptional(dataTransformer, exceptionHandler));
+    }
+
+    /**
+     * @return Async result failing with a {@link TimeoutException} if this one doesn't complete within given time
+     */
+    public AsyncResult<T> orTimeout(Duration timeout) {
+        return new AsyncResult<>(future.thenApply(Function.identity()).completeOnTimeout(
+                Result.fail(new TimeoutException("Result not available within " + timeout)),
+                timeout.toNanos(),
+                TimeUnit.NANOSECONDS
+        ));
+    }
+
+    public boolean isDone() {
+        return future.isDone();
+    }
+
+    /**
+     * Blocks until this result completes, which is cheap only on a virtual thread
+     */
+    public Result<T> join() {
+        return future.join();
+    }
+
+    /**
+     * @return Future completing with this result
+     */
+    public CompletableFuture<Result<T>> toResultFuture() {
+        return future.thenApply(Function.identity());
+    }
+
+    /**
+     * @return Future completing with data, or exceptionally with the failure
+     */
+    public CompletableFuture<T> toCompletableFuture() {
+        return future.thenCompose(result -> result instanceof Result.Success
+                ? CompletableFuture.completedFuture(((Result.Success<T>) result).getData())
+                : CompletableFuture.failedFuture(((Result.Failure<T>) result).getError())
+        );
+    }
+
+    private static <T> Result<T> resultOf(CheckedSupplier<T> generator) {
+        try {
+            return Result.succeed(generator.get());
+        } catch (Exception e) {
+            return Result.fail(e);
+        }
+    }
+
+    private static Exception unwrap(Throwable throwable) {
+        Throwable cause = throwable;
+        while (cause instanceof CompletionException || cause instanceof ExecutionException) {
+            if (null == cause.getCause()) break;
+            cause = cause.getCause();
+        }
+        return cause instanceof Exception ? (Exception) cause : new ExecutionException(cause);
+    }
+
+}
@@ -0,0 +1,230 @@
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Consumer buffering items & passing them on to a sink in batches, created by
+ * {@link CheckedConsumer#batching(CheckedConsumer, int, Duration, int, BiConsumer)}.
+ * <br>
+ * Items are queued without locking and delivered by a background virtual thread, as soon as a full batch is pending
+ * or at least every {@code maxDelay}. At most {@code maxPending} items are buffered: when the sink falls behind,
+ * {@link BatchingConsumer#accept(Object)} blocks until it catches up. If the sink fails on a batch, the exception is
+ * passed to the exception handler once for each item of the batch, or, without a handler, the first such exception is
+ * rethrown (wrapped) by the next {@link BatchingConsumer#flush()} or {@link BatchingConsumer#close()}. Errors thrown by
+ * the sink & exceptions thrown by the handler are rethrown likewise.
+ * <br>
+ * Usage: <pre>{@code
+ *  try (BatchingConsumer<Row> inserter = CheckedConsumer.batching(db::insertAll, 500, Duration.ofMillis(50))) {
+ *      rows.forEach(inserter);
+ *  }
+ * }</pre>
+ *
+ * @param <T> Type of items
+ */
+public class BatchingConsumer<T> implements Consumer<T>, AutoCloseable {
+
+    private final CheckedConsumer<List<T>> sink;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final BiConsumer<T, Exception> exceptionHandler;
+
+    private final ConcurrentLinkedQueue<T> queue = new ConcurrentLinkedQueue<>();
+    private final Semaphore capacity;
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicInteger accepting = new AtomicInteger();
+    private final Object deliveryMonitor = new Object();
+    private final AtomicReference<Throwable> unhandledFailure = new AtomicReference<>();
+    private final Thread flusher;
+
+    private volatile boolean flushRequested;
+    private volatile boolean closed;
+
+    BatchingConsumer(
+            CheckedConsumer<List<T>> sink,
+            int maxBatchSize,
+            Duration maxDelay,
+            int maxPending,
+            BiConsumer<T, Exception> exceptionHandler
+    ) {
+        if (maxBatchSize < 1 || maxPending < maxBatchSize) {
+            throw new IllegalArgumentException(
+                    "Need 0 < maxBatchSize <= maxPending, got " + maxBatchSize + " & " + maxPending
+            );
+        }
+        Objects.requireNonNull(maxDelay, "maxDelay");
+        if (maxDelay.isNegative() || maxDelay.isZero()) {
+            throw new IllegalArgumentException("Need 0 < maxDelay, got " + maxDelay);
+        }
+        this.sink = sink;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.exceptionHandler = exceptionHandler;
+        this.capacity = new Semaphore(maxPending);
+        this.flusher = Thread.ofVirtual().name("batching-consumer-flusher").start(this::deliverUntilClosed);
+    }
+
+    /**
+     * Queues given item, blocking while {@code maxPending} items are already waiting for the sink
+     *
+     * @throws IllegalStateException If closed, or if the background thread delivering items died
+     */
+    @Override
+    public void accept(T item) {
+        // Counted while accepting, so that close waits for the item to be queued before delivering the last ones
+        accepting.incrementAndGet();
+        try {
+            ensureNotClosed();
+            while (!capacity.tryAcquire(maxDelayNanos, TimeUnit.NANOSECONDS)) {
+                ensureNotClosed();
+                ensureFlusherAlive();
+            }
+            ensureFlusherAlive();
+            queue.add(item);
+            long pending = accepted.incrementAndGet() - delivered.get();
+            // Waking the flusher on the first pending item lets it start the max delay from its arrival
+            if (1 == pending || pending >= maxBatchSize) LockSupport.unpark(flusher);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } finally {
+            accepting.decrementAndGet();
+        }
+    }
+
+    /**
+     * Delivers all items accepted so far to the sink, blocking until done
+     *
+     * @throws IllegalStateException If the background thread delivering items died before delivering them
+     */
+    public void flush() {
+        awaitDelivery();
+        rethrowUnhandledFailure();
+    }
+
+    private void awaitDelivery() {
+        long target = accepted.get();
+        flushRequested = true;
+        LockSupport.unpark(flusher);
+        synchronized (deliveryMonitor) {
+            while (delivered.get() < target && flusher.isAlive()) {
+                try {
+                    deliveryMonitor.wait(Math.max(1, maxDelayNanos / 1_000_000));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException(e);
+                }
+            }
+        }
+        if (delivered.get() < target) ensureFlusherAlive();
+    }
+
+    /**
+     * Stops accepting items & delivers all pending ones, blocking until done
+     */
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        while (0 != accepting.get()) Thread.onSpinWait();
+        LockSupport.unpark(flusher);
+        try {
+            flusher.join();
+            deliverPending();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        rethrowUnhandledFailure();
+    }
+
+    private void deliverUntilClosed() {
+        try {
+            long deadline = 0;
+            boolean waiting = false;
+            while (!closed || !queue.isEmpty()) {
+                long pending = accepted.get() - delivered.get();
+                long now = System.nanoTime();
+                if (0 == pending && !flushRequested && !closed) {
+                    waiting = false;
+                    LockSupport.parkNanos(this, maxDelayNanos);
+                    continue;
+                }
+                if (!waiting) {
+                    waiting = true;
+                    deadline = now + maxDelayNanos;
+                }
+                if (pending >= maxBatchSize || now - deadline >= 0 || flushRequested || closed) {
+                    flushRequested = false;
+                    deliverPending();
+                    waiting = false;
+                } else {
+                    LockSupport.parkNanos(this, deadline - now);
+                }
+            }
+        } catch (Throwable t) {
+            unhandledFailure.compareAndSet(null, t);
+            throw t;
+        }
+    }
+
+    private void deliverPending() {
+        while (!queue.isEmpty()) {
+            List<T> batch = new ArrayList<>(maxBatchSize);
+            for (T item; batch.size() < maxBatchSize && null != (item = queue.poll()); ) batch.add(item);
+            try {
+                sink.accept(batch);
+            } catch (Throwable t) {
+                handleFailure(batch, t);
+            } finally {
+                capacity.release(batch.size());
+                delivered.addAndGet(batch.size());
+                synchronized (deliveryMonitor) {
+                    deliveryMonitor.notifyAll();
+                }
+            }
+        }
+    }
+
+    private void handleFailure(List<T> batch, Throwable t) {
+        if (null == exceptionHandler || !(t instanceof Exception)) {
+            unhandledFailure.compareAndSet(null, t);
+            return;
+        }
+        for (T item : batch) {
+            try {
+                exceptionHandler.accept(item, (Exception) t);
+            } catch (Throwable handlerFailure) {
+                unhandledFailure.compareAndSet(null, handlerFailure);
+            }
+        }
+    }
+
+    private void ensureNotClosed() {
+        if (closed) throw new IllegalStateException("Can't accept into a closed " + BatchingConsumer.class.getName());
+    }
+
+    private void ensureFlusherAlive() {
+        if (!closed && !flusher.isAlive()) {
+            throw new IllegalStateException("Batching consumer stopped delivering items", unhandledFailure.get());
+        }
+    }
+
+    private void rethrowUnhandledFailure() {
+        Throwable t = unhandledFailure.getAndSet(null);
+        if (t instanceof Error) throw (Error) t;
+        if (t instanceof Exception) ExceptionUtils.throwWrappedInRuntime((Exception) t);
+        if (null != t) throw new RuntimeException(t);
+    }
+
+}
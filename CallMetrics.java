@@ -0,0 +1,97 @@
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Calls, failures (by exception class) & latencies recorded under one name of a {@link MetricsRegistry}.
+ * <br>
+ * Every call & failure is counted in {@link LongAdder}s, while only a sample of calls is timed (one in the sample
+ * interval of the registry, picked at random), as reading the clock costs more than counting.
+ * Recording never takes a lock.
+ */
+public class CallMetrics {
+
+    private static final long NOT_TIMED = Long.MIN_VALUE;
+
+    private final String name;
+    private final int sampleInterval;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final ConcurrentHashMap<Class<?>, LongAdder> failuresByException = new ConcurrentHashMap<>();
+    private final LatencyHistogram latencies = new LatencyHistogram();
+
+    CallMetrics(String name, int sampleInterval) {
+        this.name = name;
+        this.sampleInterval = sampleInterval;
+    }
+
+    /**
+     * Makes given call, recording it whether it returns or throws (including errors)
+     *
+     * @return Output of given call
+     */
+    <O> O record(CheckedSupplier<O> call) throws Exception {
+        long start = start();
+        Throwable failure = null;
+        try {
+            return call.get();
+        } catch (Throwable t) {
+            failure = t;
+            throw t;
+        } finally {
+            ended(start, failure);
+        }
+    }
+
+    /**
+     * @return Start of a call, to be passed to {@link CallMetrics#ended(long, Throwable)} once it ends
+     */
+    private long start() {
+        if (1 != sampleInterval && 0 != ThreadLocalRandom.current().nextInt(sampleInterval)) return NOT_TIMED;
+        return System.nanoTime();
+    }
+
+    /**
+     * @param start   Start of the call, see {@link CallMetrics#start()}
+     * @param failure What the call threw, null if it succeeded
+     */
+    private void ended(long start, Throwable failure) {
+        calls.increment();
+        if (NOT_TIMED != start) latencies.record(System.nanoTime() - start);
+        if (null == failure) return;
+        failures.increment();
+        LongAdder failuresOfException = failuresByException.get(failure.getClass());
+        if (null == failuresOfException) {
+            failuresOfException = failuresByException.computeIfAbsent(failure.getClass(), exception -> new LongAdder());
+        }
+        failuresOfException.increment();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return Snapshot of metrics recorded so far. Counters are read one by one, so calls ending meanwhile may show in
+     * some but not others.
+     */
+    public CallMetricsSnapshot snapshot() {
+        Map<String, Long> failuresByException = new TreeMap<>();
+        this.failuresByException.forEach(
+                (exception, count) -> failuresByException.put(exception.getName(), count.sum())
+        );
+        return new CallMetricsSnapshot(
+                name,
+                calls.sum(),
+                failures.sum(),
+                Collections.unmodifiableMap(failuresByException),
+                latencies.counts(),
+                latencies.totalNanos(),
+                latencies.maxNanos()
+        );
+    }
+
+}
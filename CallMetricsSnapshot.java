@@ -0,0 +1,67 @@
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Value;
+
+import java.util.Map;
+
+/**
+ * Snapshot of the {@link CallMetrics} recorded under a name, with latencies of the timed sample of calls
+ */
+@Value
+public class CallMetricsSnapshot {
+
+    String name;
+    long calls;
+    long failures;
+
+    /**
+     * Failures by name of exception class
+     */
+    Map<String, Long> failuresByException;
+
+    @Getter(AccessLevel.NONE) long[] latencyCounts;
+    long totalLatencyNanos;
+    long maxLatencyNanos;
+
+    /**
+     * @return Number of calls timed
+     */
+    public long getTimedCalls() {
+        long timedCalls = 0;
+        for (long count : latencyCounts) timedCalls += count;
+        return timedCalls;
+    }
+
+    public double getMeanLatencyNanos() {
+        long timedCalls = getTimedCalls();
+        return 0 == timedCalls ? 0 : (double) totalLatencyNanos / timedCalls;
+    }
+
+    /**
+     * @param percentile Percentile between 0 & 100
+     * @return Upper bound of the histogram bucket the percentile of timed latencies falls in, 0 if no call was timed
+     */
+    public long getLatencyPercentileNanos(double percentile) {
+        if (percentile < 0 || percentile > 100) throw new IllegalArgumentException("Invalid percentile " + percentile);
+        long rank = (long) Math.ceil(getTimedCalls() * percentile / 100);
+        long seen = 0;
+        for (int bucket = 0; bucket < latencyCounts.length; bucket++) {
+            seen += latencyCounts[bucket];
+            if (seen >= rank && 0 != seen) return Math.min(LatencyHistogram.upperBoundOf(bucket), maxLatencyNanos);
+        }
+        return 0;
+    }
+
+    /**
+     * @return Number of timed calls per histogram bucket, bucket i holding latencies upto
+     * {@link CallMetricsSnapshot#getBucketUpperBoundNanos(int)}
+     */
+    public long[] getLatencyCounts() {
+        return latencyCounts.clone();
+    }
+
+    public static long getBucketUpperBoundNanos(int bucket) {
+        return LatencyHistogram.upperBoundOf(bucket);
+    }
+
+}
@@ -1,3 +1,5 @@
+import java.time.Duration;
+import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -7,11 +9,37 @@ public interface CheckedConsumer<T> {
     void accept(T t) throws Exception;
 
     static <I> Consumer<I> wrap(CheckedConsumer<I> checkedConsumer) {
-        return i -> ExceptionUtils.tryCatch(() -> checkedConsumer.accept(i), ExceptionUtils::throwWrappedInRuntime);
+        return i -> {
+            try {
+                checkedConsumer.accept(i);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        };
     }
 
     static <I, __> Consumer<I> wrap(CheckedFunction<I, __> checkedFunction) {
-        return i -> ExceptionUtils.tryCatch(() -> checkedFunction.apply(i), ExceptionUtils::throwWrappedInRuntime);
+        return i -> {
+            try {
+                checkedFunction.apply(i);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+
+    /**
+     * Like {@link CheckedConsumer#wrap(CheckedConsumer)}, but rethrows exceptions unwrapped, see
+     * {@link ExceptionUtils#sneakyThrow(Exception)}
+     */
+    static <I> Consumer<I> wrapSneakily(CheckedConsumer<I> checkedConsumer) {
+        return i -> {
+            try {
+                checkedConsumer.accept(i);
+            } catch (Exception e) {
+                throw ExceptionUtils.sneakyThrow(e);
+            }
+        };
     }
 
     static <I> Consumer<I> wrapWithHandler(CheckedConsumer<I> checkedConsumer, Consumer<Exception> exceptionHandler) {
@@ -25,4 +53,55 @@ public interface CheckedConsumer<T> {
         return i -> ExceptionUtils.tryCatch(() -> checkedConsumer.accept(i), e -> exceptionHandler.accept(i, e));
     }
 
+    /**
+     * Buffers items, passing them on to given sink in batches, see {@link BatchingConsumer}.
+     * Upto 4 batches are buffered, the first failure of the sink is rethrown on flush or close.
+     */
+    static <I> BatchingConsumer<I> batching(CheckedConsumer<List<I>> sink, int maxBatchSize, Duration maxDelay) {
+        return new BatchingConsumer<>(sink, maxBatchSize, maxDelay, 4 * maxBatchSize, null);
+    }
+
+    /**
+     * Buffers items, passing them on to given sink in batches, see {@link BatchingConsumer}.
+     * Upto 4 batches are buffered, failures of the sink are passed to the handler for each item of the failed batch.
+     */
+    static <I> BatchingConsumer<I> batching(
+            CheckedConsumer<List<I>> sink,
+            int maxBatchSize,
+            Duration maxDelay,
+            BiConsumer<I, Exception> exceptionHandler
+    ) {
+        return batching(sink, maxBatchSize, maxDelay, 4 * maxBatchSize, exceptionHandler);
+    }
+
+    /**
+     * Buffers items, passing them on to given sink in batches, see {@link BatchingConsumer}.
+     *
+     * @param maxPending Number of buffered items beyond which {@link BatchingConsumer#accept(Object)} blocks
+     */
+    static <I> BatchingConsumer<I> batching(
+            CheckedConsumer<List<I>> sink,
+            int maxBatchSize,
+            Duration maxDelay,
+            int maxPending,
+            BiConsumer<I, Exception> exceptionHandler
+    ) {
+        return new BatchingConsumer<>(sink, maxBatchSize, maxDelay, maxPending, exceptionHandler);
+    }
+
+    /**
+     * Records calls, failures & latencies of given consumer under given name, see {@link MetricsRegistry}
+     */
+    static <I> CheckedConsumer<I> instrumented(
+            CheckedConsumer<I> checkedConsumer,
+            String name,
+            MetricsRegistry registry
+    ) {
+        CallMetrics metrics = registry.metrics(name);
+        return i -> metrics.record(() -> {
+            checkedConsumer.accept(i);
+            return null;
+        });
+    }
+
 }
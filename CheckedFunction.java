@@ -9,7 +9,27 @@ public interface CheckedFunction<T, R> {
     R apply(T t) throws Exception;
 
     static <I, O> Function<I, O> wrap(CheckedFunction<I, O> function) {
-        return i -> ExceptionUtils.tryCatch(() -> function.apply(i), ExceptionUtils::throwWrappedInRuntime).orElse(null);
+        return i -> {
+            try {
+                return function.apply(i);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+
+    /**
+     * Like {@link CheckedFunction#wrap(CheckedFunction)}, but rethrows exceptions unwrapped, see
+     * {@link ExceptionUtils#sneakyThrow(Exception)}
+     */
+    static <I, O> Function<I, O> wrapSneakily(CheckedFunction<I, O> function) {
+        return i -> {
+            try {
+                return function.apply(i);
+            } catch (Exception e) {
+                throw ExceptionUtils.sneakyThrow(e);
+            }
+        };
     }
 
     static <I, O> Function<I, Optional<O>> wrapWithHandler(
@@ -26,4 +46,33 @@ public interface CheckedFunction<T, R> {
         return i -> ExceptionUtils.tryCatch(() -> function.apply(i), e -> exceptionHandler.accept(i, e));
     }
 
+    /**
+     * Caches outputs of given function in a bounded cache, see {@link MemoizedFunction}
+     */
+    static <I, O> MemoizedFunction<I, O> memoize(
+            CheckedFunction<I, O> function,
+            MemoizationPolicy<? super I, ? super O> policy
+    ) {
+        return new MemoizedFunction<>(function, policy);
+    }
+
+    /**
+     * Caches outputs of given function in a cache bounded by the default {@link MemoizationPolicy}
+     */
+    static <I, O> MemoizedFunction<I, O> memoize(CheckedFunction<I, O> function) {
+        return memoize(function, MemoizationPolicy.builder().build());
+    }
+
+    /**
+     * Records calls, failures & latencies of given function under given name, see {@link MetricsRegistry}
+     */
+    static <I, O> CheckedFunction<I, O> instrumented(
+            CheckedFunction<I, O> function,
+            String name,
+            MetricsRegistry registry
+    ) {
+        CallMetrics metrics = registry.metrics(name);
+        return i -> metrics.record(() -> function.apply(i));
+    }
+
 }
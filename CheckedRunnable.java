@@ -6,11 +6,42 @@ public interface CheckedRunnable {
     void run() throws Exception;
 
     static Runnable wrap(CheckedRunnable checkedRunnable) {
-        return () -> ExceptionUtils.tryCatch(checkedRunnable, ExceptionUtils::throwWrappedInRuntime);
+        return () -> {
+            try {
+                checkedRunnable.run();
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+
+    /**
+     * Like {@link CheckedRunnable#wrap(CheckedRunnable)}, but rethrows exceptions unwrapped, see
+     * {@link ExceptionUtils#sneakyThrow(Exception)}
+     */
+    static Runnable wrapSneakily(CheckedRunnable checkedRunnable) {
+        return () -> {
+            try {
+                checkedRunnable.run();
+            } catch (Exception e) {
+                throw ExceptionUtils.sneakyThrow(e);
+            }
+        };
     }
 
     static Runnable wrapWithHandler(CheckedRunnable checkedRunnable, Consumer<Exception> exceptionHandler) {
         return () -> ExceptionUtils.tryCatch(checkedRunnable, exceptionHandler);
     }
 
+    /**
+     * Records calls, failures & latencies of given runnable under given name, see {@link MetricsRegistry}
+     */
+    static CheckedRunnable instrumented(CheckedRunnable checkedRunnable, String name, MetricsRegistry registry) {
+        CallMetrics metrics = registry.metrics(name);
+        return () -> metrics.record(() -> {
+            checkedRunnable.run();
+            return null;
+        });
+    }
+
 }
@@ -1,4 +1,6 @@
+import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -8,7 +10,27 @@ public interface CheckedSupplier<R> {
     R get() throws Exception;
 
     static <O> Supplier<O> wrap(CheckedSupplier<O> checkedSupplier) {
-        return () -> ExceptionUtils.tryCatch(checkedSupplier, ExceptionUtils::throwWrappedInRuntime).orElse(null);
+        return () -> {
+            try {
+                return checkedSupplier.get();
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+
+    /**
+     * Like {@link CheckedSupplier#wrap(CheckedSupplier)}, but rethrows exceptions unwrapped, see
+     * {@link ExceptionUtils#sneakyThrow(Exception)}
+     */
+    static <O> Supplier<O> wrapSneakily(CheckedSupplier<O> checkedSupplier) {
+        return () -> {
+            try {
+                return checkedSupplier.get();
+            } catch (Exception e) {
+                throw ExceptionUtils.sneakyThrow(e);
+            }
+        };
     }
 
     static <O> Supplier<Optional<O>> wrapWithHandler(
@@ -18,4 +40,46 @@ public interface CheckedSupplier<R> {
         return () -> ExceptionUtils.tryCatch(checkedSupplier, exceptionHandler);
     }
 
+    /**
+     * Computes value of given supplier once, on first call, see {@link LazySupplier}
+     */
+    static <O> LazySupplier<O> lazy(CheckedSupplier<O> checkedSupplier) {
+        return new LazySupplier<>(checkedSupplier);
+    }
+
+    /**
+     * Caches value of given supplier, refreshing it on a virtual thread ahead of expiry, see {@link RefreshingSupplier}
+     */
+    static <O> RefreshingSupplier<O> refreshing(
+            CheckedSupplier<O> checkedSupplier,
+            Duration timeToLive,
+            Consumer<Exception> exceptionHandler
+    ) {
+        return refreshing(checkedSupplier, timeToLive, exceptionHandler, VirtualThreads.EXECUTOR);
+    }
+
+    /**
+     * Caches value of given supplier, refreshing it on given executor ahead of expiry, see {@link RefreshingSupplier}
+     */
+    static <O> RefreshingSupplier<O> refreshing(
+            CheckedSupplier<O> checkedSupplier,
+            Duration timeToLive,
+            Consumer<Exception> exceptionHandler,
+            Executor executor
+    ) {
+        return new RefreshingSupplier<>(checkedSupplier, timeToLive, exceptionHandler, executor);
+    }
+
+    /**
+     * Records calls, failures & latencies of given supplier under given name, see {@link MetricsRegistry}
+     */
+    static <O> CheckedSupplier<O> instrumented(
+            CheckedSupplier<O> checkedSupplier,
+            String name,
+            MetricsRegistry registry
+    ) {
+        CallMetrics metrics = registry.metrics(name);
+        return () -> metrics.record(checkedSupplier);
+    }
+
 }
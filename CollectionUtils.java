@@ -4,9 +4,21 @@ import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class CollectionUtils {
 
+    /**
+     * Side of square tiles {@link CollectionUtils#transpose(List)} copies at a time, small enough for a tile of source
+     * & target references to stay in L1 cache
+     */
+    static final int TRANSPOSE_TILE_SIZE = 64;
+
+    /**
+     * Inputs to {@link CollectionUtils#transpose(List)} with at least this many elements are transposed in parallel
+     */
+    static final long PARALLEL_TRANSPOSE_THRESHOLD = 1 << 16;
+
     // ---------------------- Padding lists ----------------------
 
     /**
@@ -19,10 +31,14 @@ public class CollectionUtils {
      */
     public static <T> List<List<T>> padListsWithDefault(List<List<T>> tLists, T defaultValue) {
         int paddedSize = tLists.stream().filter(Objects::nonNull).mapToInt(List::size).max().orElse(0);
-        tLists.forEach(ts -> {
-            if (null == ts) ts = new ArrayList<>();
+        for (ListIterator<List<T>> iterator = tLists.listIterator(); iterator.hasNext(); ) {
+            List<T> original = iterator.next();
+            List<T> ts = original;
+            ts = paddable(ts, paddedSize);
             if (ts.size() < paddedSize) ts.addAll(Collections.nCopies(paddedSize - ts.size(), defaultValue));
-        });
+            // Only replaced lists are set, so outer lists that can't be modified work as long as nothing is replaced
+            if (ts != original) iterator.set(ts);
+        }
         return tLists;
     }
 
@@ -39,17 +55,66 @@ public class CollectionUtils {
             Function<List<T>, T> defaultValueGenerator
     ) {
         int paddedSize = tLists.stream().filter(Objects::nonNull).mapToInt(List::size).max().orElse(0);
-        for (int i = 0; i < tLists.size(); i++) {
-            List<T> ts = tLists.get(i);// This must be done before mutating the lists
+        for (ListIterator<List<T>> iterator = tLists.listIterator(); iterator.hasNext(); ) {
+            List<T> original = iterator.next();
+            List<T> ts = original;// This must be done before mutating the lists
             T defaultValue = defaultValueGenerator.apply(ts);
-            if (null == ts) ts = new ArrayList<>();
-            if (ts instanceof SingleElementImmutableList) ts = ((SingleElementImmutableList<T>) ts).toModifiableList();
+            ts = paddable(ts, paddedSize);
             if (ts.size() < paddedSize) ts.addAll(Collections.nCopies(paddedSize - ts.size(), defaultValue));
-            tLists.set(i, ts);
+            if (ts != original) iterator.set(ts);
         }
         return tLists;
     }
 
+    /**
+     * @return Given list if it can be padded in place (or needs no padding), else a new modifiable list to pad instead
+     */
+    @SuppressWarnings("deprecation")
+    private static <T> List<T> paddable(List<T> ts, int paddedSize) {
+        if (null == ts) return new ArrayList<>(paddedSize);
+        if (ts.size() >= paddedSize) return ts;
+        if (ts instanceof SmallImmutableList) return ((SmallImmutableList<T>) ts).toModifiableList(paddedSize);
+        if (ts instanceof SingleElementImmutableList) return ((SingleElementImmutableList<T>) ts).toModifiableList();
+        return ts;
+    }
+
+    /**
+     * Creates read-only views of given lists padded with default value upto the size of the largest list, treating a
+     * null list as empty. Nothing is copied and given lists are left untouched, so later changes to them show through.
+     *
+     * @param tLists       List of lists to pad with default
+     * @param defaultValue Value to use for padding
+     * @param <T>          Type of list elements and default value
+     * @return New list of padded views of input lists
+     */
+    public static <T> List<List<T>> paddedViewsWithDefault(List<List<T>> tLists, T defaultValue) {
+        int paddedSize = tLists.stream().filter(Objects::nonNull).mapToInt(List::size).max().orElse(0);
+        List<List<T>> paddedLists = new ArrayList<>(tLists.size());
+        for (List<T> ts : tLists) paddedLists.add(PaddedListView.of(ts, defaultValue, paddedSize));
+        return paddedLists;
+    }
+
+    /**
+     * Creates read-only views of given lists padded with default value upto the size of the largest list, treating a
+     * null list as empty. Nothing is copied and given lists are left untouched, so later changes to them show through.
+     *
+     * @param tLists                List of lists to pad with default
+     * @param defaultValueGenerator Generator that takes list and gives default value to use for padding
+     * @param <T>                   Type of list elements and default value
+     * @return New list of padded views of input lists
+     */
+    public static <T> List<List<T>> paddedViewsWithGeneratedDefault(
+            List<List<T>> tLists,
+            Function<List<T>, T> defaultValueGenerator
+    ) {
+        int paddedSize = tLists.stream().filter(Objects::nonNull).mapToInt(List::size).max().orElse(0);
+        List<List<T>> paddedLists = new ArrayList<>(tLists.size());
+        for (List<T> ts : tLists) {
+            paddedLists.add(PaddedListView.of(ts, defaultValueGenerator.apply(ts), paddedSize));
+        }
+        return paddedLists;
+    }
+
     // ---------------------- Zipping lists ----------------------
 
     /**
@@ -65,9 +130,7 @@ public class CollectionUtils {
      */
     @SafeVarargs
     public static <T> Stream<List<T>> homogenousZippedStreamOf(List<T>... tList) {
-        return IntStream
-                .range(0, Arrays.stream(tList).mapToInt(List::size).min().orElse(0))
-                .mapToObj(i -> Arrays.stream(tList).map(ts -> ts.get(i)).collect(Collectors.toList()));
+        return zippedStreamOf(tList, CollectionUtils::zippedRowCopy, cursor -> new ArrayList<>(cursor.row()));
     }
 
     /**
@@ -97,14 +160,17 @@ public class CollectionUtils {
      * <p>
      * where ai & bi are of same type
      *
+     * The supplier is called exactly once, and the lists it streams are then iterated in lockstep.
+     *
      * @param tListStreamSupplier Stream supplier for lists to process
      * @param <T>                 Type of elements in lists
      * @return Stream of elements zipped together in a list
      */
+    @SuppressWarnings("unchecked")
     public static <T> Stream<List<T>> homogenousZippedStreamOf(Supplier<Stream<List<T>>> tListStreamSupplier) {
-        return IntStream
-                .range(0, tListStreamSupplier.get().mapToInt(List::size).min().orElse(0))
-                .mapToObj(i -> tListStreamSupplier.get().map(ts -> ts.get(i)).collect(Collectors.toList()));
+        try (Stream<List<T>> tListStream = tListStreamSupplier.get()) {
+            return homogenousZippedStreamOf(tListStream.toArray(List[]::new));
+        }
     }
 
     /**
@@ -125,15 +191,270 @@ public class CollectionUtils {
     }
 
     /**
-     * Joins lists maintaining order
+     * Creates a stream of same positioned elements of given iterators zipped together in a list, upto the shortest
+     * iterator. Rows are produced lazily, one at a time, so iterators of unknown or unbounded length can be zipped in
+     * bounded memory.
+     * <p>
+     * Given iterators over [a1, a2, a3, a4] & [b1, b2, b3]
+     * <p>
+     * Returns [a1, b1], [a2, b2], [a3, b3]
+     * <p>
+     * where ai & bi are of same type
+     *
+     * @param tIterators Iterators to process
+     * @param <T>        Type of elements of iterators
+     * @return Stream of elements zipped together in a list
+     */
+    @SafeVarargs
+    public static <T> Stream<List<T>> homogenousZippedStreamOfIterators(Iterator<T>... tIterators) {
+        Iterator<List<T>> rows = new Iterator<List<T>>() {
+            @Override
+            public boolean hasNext() {
+                if (tIterators.length == 0) return false;
+                for (Iterator<T> ts : tIterators) {
+                    if (!ts.hasNext()) return false;
+                }
+                return true;
+            }
+
+            @Override
+            public List<T> next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                List<T> row = new ArrayList<>(tIterators.length);
+                for (Iterator<T> ts : tIterators) row.add(ts.next());
+                return row;
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(rows, Spliterator.ORDERED), false);
+    }
+
+    /**
+     * Creates a stream of same positioned elements of given streams zipped together in a list, upto the shortest
+     * stream. Each stream is consumed exactly once, lazily, so streams of unknown or unbounded length can be zipped in
+     * bounded memory. Closing the returned stream closes all given streams.
+     * <p>
+     * Given streams of [a1, a2, a3, a4] & [b1, b2, b3]
+     * <p>
+     * Returns [a1, b1], [a2, b2], [a3, b3]
+     * <p>
+     * where ai & bi are of same type
+     *
+     * @param tStreams Streams to process
+     * @param <T>      Type of elements of streams
+     * @return Stream of elements zipped together in a list
+     * @see CollectionUtils#homogenousZippedStreamOfIterators(Iterator[])
+     */
+    @SafeVarargs
+    @SuppressWarnings("unchecked")
+    public static <T> Stream<List<T>> homogenousZippedStreamOfStreams(Stream<T>... tStreams) {
+        Iterator<T>[] tIterators = Arrays.stream(tStreams).map(Stream::iterator).toArray(Iterator[]::new);
+        return homogenousZippedStreamOfIterators(tIterators)
+                .onClose(() -> Arrays.stream(tStreams).forEach(Stream::close));
+    }
+
+    /**
+     * Creates a stream of same indexed elements zipped together in a read-only row view, upto size of smallest provided
+     * list. Unlike {@link CollectionUtils#homogenousZippedStreamOf(List[])}, no list is built per row: rows over
+     * {@link RandomAccess} lists are views reading the source lists by index, while other lists are walked once through
+     * iterators, so zipping linked lists stays linear.
+     * <p>
+     * Given lists [a1, a2, a3, a4] & [b1, b2, b3]
+     * <p>
+     * Returns [a1, b1], [a2, b2], [a3, b3]
+     * <p>
+     * where ai & bi are of same type
+     *
+     * @param tList List of lists to process
+     * @param <T>   Type of elements in lists
+     * @return Stream of read-only rows of elements zipped together
+     * @see ZipCursor
+     */
+    @SafeVarargs
+    public static <T> Stream<List<T>> homogenousZippedViewStreamOf(List<T>... tList) {
+        return zippedStreamOf(tList.clone(), ZippedRowView::new, ZipCursor::rowSnapshot);
+    }
+
+    /**
+     * Streams rows of given lists through a balanced {@link ZipSpliterator} if all lists are {@link RandomAccess},
+     * otherwise through a {@link ZipCursor} walking them once
+     */
+    private static <T> Stream<List<T>> zippedStreamOf(
+            List<T>[] tList,
+            ZipSpliterator.RowFactory<T> randomAccessRowFactory,
+            Function<ZipCursor<T>, List<T>> cursorRowFactory
+    ) {
+        if (Arrays.stream(tList).allMatch(ts -> ts instanceof RandomAccess)) {
+            return StreamSupport.stream(ZipSpliterator.of(tList, randomAccessRowFactory), false);
+        }
+        ZipCursor<T> cursor = ZipCursor.of(tList);
+        Iterator<List<T>> rows = new Iterator<List<T>>() {
+            @Override
+            public boolean hasNext() {
+                return cursor.index() + 1 < cursor.size();
+            }
+
+            @Override
+            public List<T> next() {
+                if (!cursor.next()) throw new NoSuchElementException();
+                return cursorRowFactory.apply(cursor);
+            }
+        };
+        return StreamSupport.stream(
+                Spliterators.spliterator(rows, cursor.size(), Spliterator.ORDERED | Spliterator.IMMUTABLE),
+                false
+        );
+    }
+
+    private static <T> List<T> zippedRowCopy(List<T>[] tList, int index) {
+        List<T> row = new ArrayList<>(tList.length);
+        for (List<T> ts : tList) row.add(ts.get(index));
+        return row;
+    }
+
+    /**
+     * Creates a read-only list of same indexed elements zipped together in a read-only row view, upto size of smallest
+     * provided list, without copying any element. Rows read the source lists by index, so this is meant for
+     * {@link RandomAccess} lists; prefer {@link CollectionUtils#homogenousZippedViewStreamOf(List[])} or
+     * {@link ZipCursor} otherwise.
+     * <p>
+     * Given lists [a1, a2, a3, a4] & [b1, b2, b3]
+     * <p>
+     * Returns [a1, b1], [a2, b2], [a3, b3]
+     * <p>
+     * where ai & bi are of same type
+     *
+     * @param tList List of lists to process
+     * @param <T>   Type of elements in lists
+     * @return Read-only list view of rows of elements zipped together
+     */
+    @SafeVarargs
+    public static <T> List<List<T>> homogenousZippedViewOf(List<T>... tList) {
+        int size = Arrays.stream(tList).mapToInt(List::size).min().orElse(0);
+        return new ZippedListView<>(tList.clone(), size);
+    }
+
+    /**
+     * Transposes given lists, i.e. creates a list of same indexed elements zipped together in a list, upto size of
+     * smallest provided list. Same as {@link CollectionUtils#homogenousZippedListOf(List[])}, but meant for large
+     * matrices: elements are copied in cache sized tiles, in parallel for large inputs, into preallocated rows.
+     * <p>
+     * Given lists [a1, a2, a3, a4] & [b1, b2, b3]
+     * <p>
+     * Returns [a1, b1], [a2, b2], [a3, b3]
+     * <p>
+     * where ai & bi are of same type
+     *
+     * @param tLists List of lists to transpose
+     * @param <T>    Type of elements in lists
+     * @return List of array backed (fixed size) rows of elements zipped together
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> List<List<T>> transpose(List<? extends List<T>> tLists) {
+        int width = tLists.size();
+        Object[][] columns = new Object[width][];
+        for (int column = 0; column < width; column++) {
+            List<T> ts = tLists.get(column);
+            columns[column] = ts instanceof RandomAccess ? null : ts.toArray();
+        }
+        int height = tLists.stream().mapToInt(List::size).min().orElse(0);
+        Object[][] rows = new Object[height][width];
+        int rowTiles = (height + TRANSPOSE_TILE_SIZE - 1) / TRANSPOSE_TILE_SIZE;
+        int columnTiles = (width + TRANSPOSE_TILE_SIZE - 1) / TRANSPOSE_TILE_SIZE;
+        IntStream tiles = IntStream.range(0, rowTiles * columnTiles);
+        if ((long) height * width >= PARALLEL_TRANSPOSE_THRESHOLD) tiles = tiles.parallel();
+        tiles.forEach(tile -> {
+            int rowFrom = tile / columnTiles * TRANSPOSE_TILE_SIZE;
+            int rowTo = Math.min(height, rowFrom + TRANSPOSE_TILE_SIZE);
+            int columnFrom = tile % columnTiles * TRANSPOSE_TILE_SIZE;
+            int columnTo = Math.min(width, columnFrom + TRANSPOSE_TILE_SIZE);
+            for (int column = columnFrom; column < columnTo; column++) {
+                Object[] array = columns[column];
+                List<T> ts = null == array ? tLists.get(column) : null;
+                for (int row = rowFrom; row < rowTo; row++) {
+                    rows[row][column] = null == array ? ts.get(row) : array[row];
+                }
+            }
+        });
+        List<List<T>> transposed = new ArrayList<>(height);
+        for (Object[] row : rows) transposed.add((List<T>) Arrays.asList(row));
+        return transposed;
+    }
+
+    // ---------------------- Joining lists ----------------------
+
+    /**
+     * Joins lists maintaining order, copying all elements into a new list
      *
      * @param lists Lists to join
      * @param <T>   Type of elements in lists
      * @return list joining provided lists (preserving order)
+     * @see CollectionUtils#joinListsAsView(List[])
      */
     @SafeVarargs
     public static <T> List<T> joinLists(List<? extends T>... lists) {
         return Arrays.stream(lists).flatMap(Collection::stream).collect(Collectors.toList());
     }
 
+    /**
+     * Joins lists maintaining order, without copying any element: the returned list reads from the provided lists,
+     * which must not be structurally modified while it is in use.
+     * <br>
+     * {@code get} takes O(log k) for k lists, iteration O(1) per element.
+     *
+     * @param lists Lists to join
+     * @param <T>   Type of elements in lists
+     * @return Read-only list view joining provided lists (preserving order)
+     * @see CollectionUtils#joinLists(List[])
+     */
+    @SafeVarargs
+    public static <T> List<T> joinListsAsView(List<? extends T>... lists) {
+        return ConcatenatedListView.of(lists);
+    }
+
+    private static class ZippedListView<T> extends AbstractList<List<T>> implements RandomAccess {
+
+        private final List<T>[] tLists;
+        private final int size;
+
+        ZippedListView(List<T>[] tLists, int size) {
+            this.tLists = tLists;
+            this.size = size;
+        }
+
+        @Override
+        public List<T> get(int index) {
+            Objects.checkIndex(index, size);
+            return new ZippedRowView<>(tLists, index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+    }
+
+    private static class ZippedRowView<T> extends AbstractList<T> implements RandomAccess {
+
+        private final List<T>[] tLists;
+        private final int index;
+
+        ZippedRowView(List<T>[] tLists, int index) {
+            this.tLists = tLists;
+            this.index = index;
+        }
+
+        @Override
+        public T get(int column) {
+            Objects.checkIndex(column, tLists.length);
+            return tLists[column].get(index);
+        }
+
+        @Override
+        public int size() {
+            return tLists.length;
+        }
+
+    }
+
 }
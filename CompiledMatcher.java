@@ -0,0 +1,277 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+
+/**
+ * {@link Matcher} arms compiled into a dispatch table, created by {@link Matcher#whenValue(Matcher[])}.
+ * <br>
+ * Consecutive {@link Matcher#matches} & {@link Matcher#matchesAny} arms are grouped into a single hash lookup,
+ * consecutive {@link Matcher#instanceOf} arms into a per-class cache, and only {@link Matcher#satisfies} arms are
+ * tested one by one. Groups are tried in declaration order, so the first matching arm wins exactly as with
+ * {@link Matcher#when(Object, Matcher[])}. Arms after an {@link Matcher#otherwise} are unreachable and dropped.
+ * <br>
+ * Hash lookups rely on values to match having {@code equals} & {@code hashCode} consistent with each other.
+ *
+ * @param <T> Type of value to match
+ * @param <U> Return type of {@link CompiledMatcher#apply(Object)}
+ * @see Matcher
+ */
+public class CompiledMatcher<T, U> implements Function<T, Optional<U>> {
+
+    private static final int NO_MATCH = -1;
+
+    /**
+     * Collections at least this large are classified in parallel
+     */
+    static final int PARALLEL_CLASSIFICATION_THRESHOLD = 1 << 13;
+
+    private final Segment<T>[] segments;
+    private final Supplier<U>[] resultSuppliers;
+    private final int armCount;
+
+    private CompiledMatcher(Segment<T>[] segments, Supplier<U>[] resultSuppliers, int armCount) {
+        this.segments = segments;
+        this.resultSuppliers = resultSuppliers;
+        this.armCount = armCount;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T, U> CompiledMatcher<T, U> compile(Matcher<T, U>[] matchers) {
+        List<Segment<T>> segments = new ArrayList<>();
+        List<Supplier<U>> resultSuppliers = new ArrayList<>();
+        int arm = 0;
+        while (arm < matchers.length) {
+            Matcher.Kind kind = matchers[arm].getKind();
+            int end = arm;
+            while (end < matchers.length && sameSegment(kind, matchers[end].getKind())) end++;
+            if (kind == Matcher.Kind.OTHERWISE) end = arm + 1;
+            int offset = resultSuppliers.size();
+            for (int i = arm; i < end; i++) resultSuppliers.add(matchers[i].getResultSupplier());
+            switch (kind) {
+                case MATCHES:
+                case MATCHES_ANY:
+                    segments.add(new EqualitySegment<>(matchers, arm, end, offset));
+                    break;
+                case INSTANCE_OF:
+                    segments.add(new ClassSegment<>(matchers, arm, end, offset));
+                    break;
+                case OTHERWISE:
+                    segments.add(value -> offset);
+                    end = matchers.length;
+                    break;
+                default:
+                    segments.add(new PredicateSegment<>(matchers, arm, end, offset));
+            }
+            arm = end;
+        }
+        return new CompiledMatcher<>(
+                (Segment<T>[]) segments.toArray(new Segment<?>[0]),
+                (Supplier<U>[]) resultSuppliers.toArray(new Supplier<?>[0]),
+                matchers.length
+        );
+    }
+
+    private static boolean sameSegment(Matcher.Kind first, Matcher.Kind kind) {
+        switch (first) {
+            case MATCHES:
+            case MATCHES_ANY:
+                return kind == Matcher.Kind.MATCHES || kind == Matcher.Kind.MATCHES_ANY;
+            default:
+                return kind == first;
+        }
+    }
+
+    /**
+     * @param value Value to match
+     * @return Result of the first matching arm, empty if none matches
+     */
+    @Override
+    public Optional<U> apply(T value) {
+        int arm = armIndexOf(value);
+        return NO_MATCH == arm ? Optional.empty() : Optional.ofNullable(resultSuppliers[arm].get());
+    }
+
+    /**
+     * @param value        Value to match
+     * @param defaultValue Value to return if no arm matches
+     * @return Result of the first matching arm, default value if none matches
+     */
+    public U applyOrElse(T value, U defaultValue) {
+        int arm = armIndexOf(value);
+        return NO_MATCH == arm ? defaultValue : resultSuppliers[arm].get();
+    }
+
+    /**
+     * @param value Value to match
+     * @return Index of the first matching arm, -1 if none matches
+     */
+    public int armIndexOf(T value) {
+        for (Segment<T> segment : segments) {
+            int arm = segment.armIndexOf(value);
+            if (NO_MATCH != arm) return arm;
+        }
+        return NO_MATCH;
+    }
+
+    /**
+     * Partitions values by the first arm they match, in parallel for large collections
+     *
+     * @param values Values to classify
+     * @return Buckets of values (in encounter order) indexed by arm, with an extra last bucket for unmatched values
+     * @see CompiledMatcher#classify(Stream)
+     */
+    public List<List<T>> classify(Collection<T> values) {
+        return classify(values.size() < PARALLEL_CLASSIFICATION_THRESHOLD ? values.stream() : values.parallelStream());
+    }
+
+    /**
+     * Partitions values by the first arm they match, without computing any result. Parallel streams are classified
+     * into per-thread buckets which are merged at the end.
+     *
+     * @param values Values to classify
+     * @return Buckets of values (in encounter order) indexed by arm, with an extra last bucket for unmatched values
+     */
+    public List<List<T>> classify(Stream<T> values) {
+        return values.collect(Collector.of(
+                this::newBuckets,
+                (buckets, value) -> buckets.get(bucketIndexOf(value)).add(value),
+                (buckets, others) -> {
+                    for (int i = 0; i < buckets.size(); i++) buckets.get(i).addAll(others.get(i));
+                    return buckets;
+                }
+        ));
+    }
+
+    /**
+     * Counts values by the first arm they match, in parallel for large collections
+     *
+     * @param values Values to classify
+     * @return Counts indexed by arm, with an extra last count for unmatched values
+     * @see CompiledMatcher#count(Stream)
+     */
+    public long[] count(Collection<T> values) {
+        return count(values.size() < PARALLEL_CLASSIFICATION_THRESHOLD ? values.stream() : values.parallelStream());
+    }
+
+    /**
+     * Counts values by the first arm they match, without computing any result. Parallel streams are counted
+     * into per-thread counters which are summed at the end.
+     *
+     * @param values Values to classify
+     * @return Counts indexed by arm, with an extra last count for unmatched values
+     */
+    public long[] count(Stream<T> values) {
+        return values.collect(Collector.of(
+                () -> new long[armCount + 1],
+                (counts, value) -> counts[bucketIndexOf(value)]++,
+                (counts, others) -> {
+                    Arrays.setAll(counts, i -> counts[i] + others[i]);
+                    return counts;
+                },
+                Collector.Characteristics.UNORDERED
+        ));
+    }
+
+    private List<List<T>> newBuckets() {
+        List<List<T>> buckets = new ArrayList<>(armCount + 1);
+        for (int i = 0; i <= armCount; i++) buckets.add(new ArrayList<>());
+        return buckets;
+    }
+
+    private int bucketIndexOf(T value) {
+        int arm = armIndexOf(value);
+        return NO_MATCH == arm ? armCount : arm;
+    }
+
+    @FunctionalInterface
+    private interface Segment<T> {
+        int armIndexOf(T value);
+    }
+
+    private static class EqualitySegment<T> implements Segment<T> {
+
+        private final Map<Object, Integer> armsByValue = new HashMap<>();
+
+        EqualitySegment(Matcher<T, ?>[] matchers, int from, int to, int offset) {
+            for (int i = from; i < to; i++) {
+                int arm = offset + i - from;
+                if (matchers[i].getKind() == Matcher.Kind.MATCHES) {
+                    armsByValue.putIfAbsent(matchers[i].getOperand(), arm);
+                } else {
+                    for (Object value : (List<?>) matchers[i].getOperand()) armsByValue.putIfAbsent(value, arm);
+                }
+            }
+        }
+
+        @Override
+        public int armIndexOf(T value) {
+            if (null == value) return NO_MATCH;
+            Integer arm = armsByValue.get(value);
+            return null == arm ? NO_MATCH : arm;
+        }
+
+    }
+
+    private static class ClassSegment<T> implements Segment<T> {
+
+        private final Class<?>[] classes;
+        private final int offset;
+        private final Map<Class<?>, Integer> armsByClass = new ConcurrentHashMap<>();
+
+        ClassSegment(Matcher<T, ?>[] matchers, int from, int to, int offset) {
+            this.classes = new Class<?>[to - from];
+            for (int i = from; i < to; i++) classes[i - from] = (Class<?>) matchers[i].getOperand();
+            this.offset = offset;
+        }
+
+        @Override
+        public int armIndexOf(T value) {
+            if (null == value) return NO_MATCH;
+            Class<?> valueClass = value.getClass();
+            Integer arm = armsByClass.get(valueClass);
+            if (null == arm) arm = armsByClass.computeIfAbsent(valueClass, this::firstAssignableArm);
+            return arm;
+        }
+
+        private int firstAssignableArm(Class<?> valueClass) {
+            for (int i = 0; i < classes.length; i++) {
+                if (classes[i].isAssignableFrom(valueClass)) return offset + i;
+            }
+            return NO_MATCH;
+        }
+
+    }
+
+    private static class PredicateSegment<T> implements Segment<T> {
+
+        private final Predicate<T>[] predicates;
+        private final int offset;
+
+        @SuppressWarnings("unchecked")
+        PredicateSegment(Matcher<T, ?>[] matchers, int from, int to, int offset) {
+            this.predicates = (Predicate<T>[]) new Predicate<?>[to - from];
+            for (int i = from; i < to; i++) predicates[i - from] = matchers[i].getPredicate();
+            this.offset = offset;
+        }
+
+        @Override
+        public int armIndexOf(T value) {
+            for (int i = 0; i < predicates.length; i++) {
+                if (predicates[i].test(value)) return offset + i;
+            }
+            return NO_MATCH;
+        }
+
+    }
+
+}
@@ -0,0 +1,174 @@
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Read-only view of lists joined in order, without copying any element.
+ * <br>
+ * Offsets of lists are kept as prefix sums, so {@link ConcatenatedListView#get(int)} is a binary search over lists
+ * (O(log k) for k lists), while iteration & streaming walk each list directly.
+ * Sizes of lists are taken when the view is created, so lists must not be structurally modified afterwards.
+ *
+ * @param <T> Type of elements in lists
+ * @see CollectionUtils#joinListsAsView(List[])
+ */
+class ConcatenatedListView<T> extends AbstractList<T> {
+
+    private final List<? extends T>[] lists;
+    private final int[] offsets;
+
+    private ConcatenatedListView(List<? extends T>[] lists) {
+        this.lists = lists;
+        this.offsets = new int[lists.length + 1];
+        for (int i = 0; i < lists.length; i++) offsets[i + 1] = Math.addExact(offsets[i], lists[i].size());
+    }
+
+    /**
+     * @param lists Lists to join
+     * @param <T>   Type of elements in lists
+     * @return Read-only view joining lists, which is {@link RandomAccess} if all lists are
+     */
+    static <T> List<T> of(List<? extends T>[] lists) {
+        return Arrays.stream(lists).allMatch(ts -> ts instanceof RandomAccess)
+                ? new RandomAccessConcatenatedListView<>(lists)
+                : new ConcatenatedListView<>(lists);
+    }
+
+    @Override
+    public T get(int index) {
+        Objects.checkIndex(index, size());
+        int list = listIndexOf(index);
+        return lists[list].get(index - offsets[list]);
+    }
+
+    @Override
+    public int size() {
+        return offsets[lists.length];
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int list = 0;
+            private Iterator<? extends T> current = lists.length == 0 ? null : lists[0].iterator();
+
+            @Override
+            public boolean hasNext() {
+                while (null != current && !current.hasNext()) {
+                    current = ++list < lists.length ? lists[list].iterator() : null;
+                }
+                return null != current;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return current.next();
+            }
+        };
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ConcatenatedSpliterator(0, size());
+    }
+
+    /**
+     * @return Index of the non-empty list containing given index of this view
+     */
+    private int listIndexOf(int index) {
+        int found = Arrays.binarySearch(offsets, index);
+        if (found < 0) return -found - 2;
+        while (offsets[found + 1] == index) found++; // skip empty lists
+        return found;
+    }
+
+    /**
+     * Splits by index over the whole view, but traverses list by list, through iterators for lists which aren't
+     * {@link RandomAccess}
+     */
+    private class ConcatenatedSpliterator implements Spliterator<T> {
+
+        private int index;
+        private final int fence;
+        private int list = -1;
+        private Iterator<? extends T> iterator;
+
+        ConcatenatedSpliterator(int origin, int fence) {
+            this.index = origin;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (index >= fence) return false;
+            if (-1 == list || index >= offsets[list + 1]) moveTo(listIndexOf(index));
+            action.accept(null == iterator ? lists[list].get(index - offsets[list]) : iterator.next());
+            index++;
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (index >= fence) return;
+            if (-1 == list || index >= offsets[list + 1]) moveTo(listIndexOf(index));
+            while (index < fence) {
+                List<? extends T> ts = lists[list];
+                int end = Math.min(fence, offsets[list + 1]);
+                if (null == iterator) {
+                    for (int i = index - offsets[list]; i < end - offsets[list]; i++) action.accept(ts.get(i));
+                } else {
+                    for (int i = index; i < end; i++) action.accept(iterator.next());
+                }
+                index = end;
+                if (index < fence) moveTo(list + 1);
+            }
+        }
+
+        /**
+         * Moves traversal to start of given list, or to the current index within it
+         */
+        private void moveTo(int list) {
+            this.list = list;
+            List<? extends T> ts = lists[list];
+            iterator = ts instanceof RandomAccess ? null : ts.listIterator(Math.max(0, index - offsets[list]));
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int middle = (index + fence) >>> 1;
+            if (middle <= index) return null;
+            Spliterator<T> prefix = new ConcatenatedSpliterator(index, middle);
+            index = middle;
+            list = -1;
+            iterator = null;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return SIZED | SUBSIZED | ORDERED | IMMUTABLE;
+        }
+
+    }
+
+    private static class RandomAccessConcatenatedListView<T> extends ConcatenatedListView<T> implements RandomAccess {
+
+        RandomAccessConcatenatedListView(List<? extends T>[] lists) {
+            super(lists);
+        }
+
+    }
+
+}
@@ -0,0 +1,105 @@
+import lombok.NonNull;
+
+import java.util.function.BiFunction;
+
+/**
+ * Thread safe {@link PairKeyedMap}, split into independently locked stripes so that threads working on different
+ * keys rarely contend. Meant for shared caches: {@link ConcurrentPairKeyedMap#computeIfAbsent} computes a missing
+ * value at most once, holding the lock of the key's stripe.
+ *
+ * @param <A> Type of formers of keys
+ * @param <B> Type of latters of keys
+ * @param <V> Type of values
+ */
+public class ConcurrentPairKeyedMap<A, B, V> {
+
+    private final PairKeyedMap<A, B, V>[] stripes;
+    private final int stripeShift;
+
+    public ConcurrentPairKeyedMap() {
+        this(4 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param concurrency Expected number of threads updating the map concurrently, rounded up to a power of two
+     */
+    @SuppressWarnings("unchecked")
+    public ConcurrentPairKeyedMap(int concurrency) {
+        int stripeCount = Integer.highestOneBit(Math.max(1, concurrency - 1)) << 1;
+        this.stripes = (PairKeyedMap<A, B, V>[]) new PairKeyedMap<?, ?, ?>[stripeCount];
+        for (int i = 0; i < stripeCount; i++) stripes[i] = new PairKeyedMap<>();
+        this.stripeShift = Integer.SIZE - Integer.numberOfTrailingZeros(stripeCount);
+    }
+
+    public V get(@NonNull A former, @NonNull B latter) {
+        PairKeyedMap<A, B, V> stripe = stripeOf(former, latter);
+        synchronized (stripe) {
+            return stripe.get(former, latter);
+        }
+    }
+
+    public V get(Pair<? extends A, ? extends B> key) {
+        return get(key.getFormer(), key.getLatter());
+    }
+
+    public boolean containsKey(@NonNull A former, @NonNull B latter) {
+        return null != get(former, latter);
+    }
+
+    /**
+     * @return Previous value for key, null if none
+     */
+    public V put(@NonNull A former, @NonNull B latter, @NonNull V value) {
+        PairKeyedMap<A, B, V> stripe = stripeOf(former, latter);
+        synchronized (stripe) {
+            return stripe.put(former, latter, value);
+        }
+    }
+
+    /**
+     * @return Existing value for key, or value computed (and put) by given function if none, which is called at most
+     * once per key, but blocks other keys of the same stripe while running
+     */
+    public V computeIfAbsent(@NonNull A former, @NonNull B latter, BiFunction<? super A, ? super B, ? extends V> f) {
+        PairKeyedMap<A, B, V> stripe = stripeOf(former, latter);
+        synchronized (stripe) {
+            return stripe.computeIfAbsent(former, latter, f);
+        }
+    }
+
+    /**
+     * @return Removed value for key, null if none
+     */
+    public V remove(@NonNull A former, @NonNull B latter) {
+        PairKeyedMap<A, B, V> stripe = stripeOf(former, latter);
+        synchronized (stripe) {
+            return stripe.remove(former, latter);
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (PairKeyedMap<A, B, V> stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    public void clear() {
+        for (PairKeyedMap<A, B, V> stripe : stripes) {
+            synchronized (stripe) {
+                stripe.clear();
+            }
+        }
+    }
+
+    private PairKeyedMap<A, B, V> stripeOf(A former, B latter) {
+        // Stripes take the top bits of the hash, while stripe tables index by the bottom bits
+        if (1 == stripes.length) return stripes[0];
+        int hash = PairKeyedMap.hash(former.hashCode(), latter.hashCode());
+        return stripes[hash >>> stripeShift];
+    }
+
+}
@@ -1,5 +1,6 @@
 import java.util.Optional;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 public class ExceptionUtils {
 
@@ -20,6 +21,23 @@ public class ExceptionUtils {
         }
     }
 
+    /**
+     * Like {@link ExceptionUtils#tryCatch(CheckedSupplier, Consumer)}, but returns the value directly instead of
+     * allocating an {@link Optional} for it
+     *
+     * @param exceptionHandler Maps exception to value to return instead (or throws)
+     */
+    public static <R> R tryCatchOrElse(
+            CheckedSupplier<R> trySupplier,
+            Function<Exception, ? extends R> exceptionHandler
+    ) {
+        try {
+            return trySupplier.get();
+        } catch (Exception e) {
+            return exceptionHandler.apply(e);
+        }
+    }
+
     public static void throwWrappedInRuntime(Exception e) {
         throw new RuntimeException(e);
     }
@@ -28,4 +46,26 @@ public class ExceptionUtils {
         throw r;
     }
 
+    /**
+     * Throws given exception as is, even if checked, without declaring it & without wrapping it (so without capturing
+     * another stack trace). Callers of code adapted this way may still catch it as {@link Exception}.
+     * <br>
+     * Usage: <pre>{@code
+     *  catch (Exception e) {
+     *      throw ExceptionUtils.sneakyThrow(e);
+     *  }
+     * }</pre>
+     *
+     * @return Never returns, declared to let callers write {@code throw sneakyThrow(e)}
+     */
+    public static RuntimeException sneakyThrow(Exception e) {
+        ExceptionUtils.<RuntimeException>throwAs(e);
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Exception> void throwAs(Exception e) throws E {
+        throw (E) e;
+    }
+
 }
@@ -0,0 +1,179 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * {@link Matcher} arms declared mutually exclusive, created by {@link Matcher#exclusive(Matcher[])}.
+ * <br>
+ * As at most one arm can match a value, the order in which arms are tested doesn't change the result, only the cost.
+ * Hits of every arm are counted, a sample of calls is timed, and arms are periodically reordered so that arms with
+ * the best hits per cost ratio are tested first. {@link Matcher#otherwise} arms are always tested last.
+ * <br>
+ * Counters are {@link LongAdder}s and the order is republished as a new array, so no call ever takes a lock.
+ *
+ * @param <T> Type of value to match
+ * @param <U> Return type of {@link ExclusiveMatcher#apply(Object)}
+ * @see Matcher
+ */
+public class ExclusiveMatcher<T, U> implements Function<T, Optional<U>> {
+
+    static final int DEFAULT_SAMPLE_INTERVAL = 64;
+    static final int DEFAULT_SAMPLES_PER_REORDER = 16;
+
+    private final Predicate<T>[] predicates;
+    private final Supplier<U>[] resultSuppliers;
+    private final int reorderableArms;
+    private final int sampleInterval;
+    private final int samplesPerReorder;
+
+    private final LongAdder[] hits;
+    private final LongAdder[] sampledTests;
+    private final LongAdder[] sampledNanos;
+    private final AtomicLong samples = new AtomicLong();
+
+    private volatile int[] order;
+
+    @SuppressWarnings("unchecked")
+    ExclusiveMatcher(Matcher<T, U>[] matchers, int sampleInterval, int samplesPerReorder) {
+        if (sampleInterval < 1 || samplesPerReorder < 1) {
+            throw new IllegalArgumentException("Sample interval & samples per reorder must be positive");
+        }
+        this.predicates = (Predicate<T>[]) new Predicate<?>[matchers.length];
+        this.resultSuppliers = (Supplier<U>[]) new Supplier<?>[matchers.length];
+        this.hits = new LongAdder[matchers.length];
+        this.sampledTests = new LongAdder[matchers.length];
+        this.sampledNanos = new LongAdder[matchers.length];
+        List<Integer> reorderable = new ArrayList<>();
+        List<Integer> fallbacks = new ArrayList<>();
+        for (int i = 0; i < matchers.length; i++) {
+            predicates[i] = matchers[i].getPredicate();
+            resultSuppliers[i] = matchers[i].getResultSupplier();
+            hits[i] = new LongAdder();
+            sampledTests[i] = new LongAdder();
+            sampledNanos[i] = new LongAdder();
+            (matchers[i].getKind() == Matcher.Kind.OTHERWISE ? fallbacks : reorderable).add(i);
+        }
+        this.reorderableArms = reorderable.size();
+        this.sampleInterval = sampleInterval;
+        this.samplesPerReorder = samplesPerReorder;
+        reorderable.addAll(fallbacks);
+        this.order = reorderable.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * @param value Value to match
+     * @return Result of the matching arm, empty if none matches
+     */
+    @Override
+    public Optional<U> apply(T value) {
+        int arm = armIndexOf(value);
+        return -1 == arm ? Optional.empty() : Optional.ofNullable(resultSuppliers[arm].get());
+    }
+
+    /**
+     * @param value Value to match
+     * @return Declaration index of the matching arm, -1 if none matches
+     */
+    public int armIndexOf(T value) {
+        int[] order = this.order;
+        int arm = ThreadLocalRandom.current().nextInt(sampleInterval) == 0
+                ? sampledArmIndexOf(value, order)
+                : armIndexOf(value, order);
+        if (-1 != arm) hits[arm].increment();
+        return arm;
+    }
+
+    private int armIndexOf(T value, int[] order) {
+        for (int arm : order) {
+            if (predicates[arm].test(value)) return arm;
+        }
+        return -1;
+    }
+
+    private int sampledArmIndexOf(T value, int[] order) {
+        int matched = -1;
+        for (int arm : order) {
+            long start = System.nanoTime();
+            boolean matches = predicates[arm].test(value);
+            sampledNanos[arm].add(System.nanoTime() - start);
+            sampledTests[arm].increment();
+            if (matches) {
+                matched = arm;
+                break;
+            }
+        }
+        if (samples.incrementAndGet() % samplesPerReorder == 0) reorder();
+        return matched;
+    }
+
+    /**
+     * Reorders arms by descending hits per average sampled cost, keeping {@link Matcher#otherwise} arms last.
+     * Arms never sampled are assumed to cost as much as the average sampled arm. All counters are then halved, so that
+     * recent calls weigh more than old ones.
+     */
+    public void reorder() {
+        int[] order = this.order.clone();
+        double[] averageNanos = averageCosts();
+        double neutralNanos = Arrays.stream(averageNanos).filter(nanos -> !Double.isNaN(nanos)).average().orElse(1);
+        double[] scores = new double[predicates.length];
+        for (int arm = 0; arm < predicates.length; arm++) {
+            double nanos = Double.isNaN(averageNanos[arm]) ? neutralNanos : averageNanos[arm];
+            scores[arm] = halve(hits[arm]) / Math.max(1, nanos);
+            halve(sampledTests[arm]);
+            halve(sampledNanos[arm]);
+        }
+        Integer[] reorderable = new Integer[reorderableArms];
+        for (int i = 0; i < reorderableArms; i++) reorderable[i] = order[i];
+        Arrays.sort(reorderable, Comparator.comparingDouble((Integer arm) -> scores[arm]).reversed());
+        for (int i = 0; i < reorderableArms; i++) order[i] = reorderable[i];
+        this.order = order;
+    }
+
+    /**
+     * Halves given counter, racing calls adding to it meanwhile being counted in full
+     *
+     * @return Count before halving
+     */
+    private static long halve(LongAdder counter) {
+        long count = counter.sumThenReset();
+        counter.add(count >> 1);
+        return count;
+    }
+
+    /**
+     * @return Declaration indices of arms, in the order they are currently tested
+     */
+    public int[] currentOrder() {
+        return order.clone();
+    }
+
+    /**
+     * @return Hit counts indexed by declaration index of arms, halved on every {@link ExclusiveMatcher#reorder()}
+     */
+    public long[] hitCounts() {
+        long[] counts = new long[hits.length];
+        for (int arm = 0; arm < hits.length; arm++) counts[arm] = hits[arm].sum();
+        return counts;
+    }
+
+    /**
+     * @return Average sampled cost (in nanoseconds) of testing each arm, indexed by declaration index of arms
+     */
+    public double[] averageCosts() {
+        double[] costs = new double[predicates.length];
+        for (int arm = 0; arm < predicates.length; arm++) {
+            long tests = sampledTests[arm].sum();
+            costs[arm] = 0 == tests ? Double.NaN : (double) sampledNanos[arm].sum() / tests;
+        }
+        return costs;
+    }
+
+}
@@ -0,0 +1,24 @@
+import lombok.Getter;
+
+/**
+ * Lightweight exception for expected failures used as control flow (eg. validation errors), carrying an error code &
+ * message but no stack trace, which makes creating one as cheap as any small object.
+ *
+ * @see Result#failExpected(String, String)
+ */
+@Getter
+public class ExpectedFailure extends Exception {
+
+    private final String code;
+
+    public ExpectedFailure(String code, String message) {
+        super(message, null, false, false);
+        this.code = code;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getName() + "[" + code + "]: " + getMessage();
+    }
+
+}
@@ -0,0 +1,38 @@
+/**
+ * In-place heap sort over indices, for sorting structures kept in parallel arrays without allocating per element
+ */
+class IndexSorter {
+
+    @FunctionalInterface
+    interface IndexComparator {
+        int compare(int i, int j);
+    }
+
+    @FunctionalInterface
+    interface IndexSwapper {
+        void swap(int i, int j);
+    }
+
+    /**
+     * Sorts indices [0, size) by given comparator, applying every swap through given swapper
+     */
+    static void sort(int size, IndexComparator comparator, IndexSwapper swapper) {
+        for (int i = size / 2 - 1; i >= 0; i--) siftDown(i, size, comparator, swapper);
+        for (int end = size - 1; end > 0; end--) {
+            swapper.swap(0, end);
+            siftDown(0, end, comparator, swapper);
+        }
+    }
+
+    private static void siftDown(int root, int size, IndexComparator comparator, IndexSwapper swapper) {
+        while (true) {
+            int child = 2 * root + 1;
+            if (child >= size) return;
+            if (child + 1 < size && comparator.compare(child + 1, child) > 0) child++;
+            if (comparator.compare(root, child) >= 0) return;
+            swapper.swap(root, child);
+            root = child;
+        }
+    }
+
+}
@@ -0,0 +1,10 @@
+import lombok.Value;
+
+/**
+ * {@link Pair} of two ints, without boxing either
+ */
+@Value(staticConstructor = "of")
+public class IntIntPair {
+    int former;
+    int latter;
+}
@@ -0,0 +1,10 @@
+import lombok.Value;
+
+/**
+ * {@link Pair} of an int & a long, without boxing either
+ */
+@Value(staticConstructor = "of")
+public class IntLongPair {
+    int former;
+    long latter;
+}
@@ -0,0 +1,11 @@
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * {@link Pair} of an int & an object, without boxing the int
+ */
+@Value(staticConstructor = "of")
+public class IntObjPair<U> {
+    int former;
+    @NonNull U latter;
+}
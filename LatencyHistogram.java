@@ -0,0 +1,80 @@
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of latencies in nanoseconds, with logarithmic buckets: each power of 2 is split into
+ * {@value SUB_BUCKETS} buckets, so a recorded latency is known within 12.5% using a fixed {@value BUCKETS} counters.
+ * <br>
+ * Counters are striped by recording thread (upto one stripe per processor, {@value MAX_STRIPES} at most) & summed when
+ * read, so threads timing calls of similar latency don't contend on the same bucket or its cache line.
+ */
+class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+    private static final int MAX_STRIPES = 16;
+    private static final int STRIPES = Math.min(
+            MAX_STRIPES,
+            Integer.highestOneBit(2 * Runtime.getRuntime().availableProcessors() - 1)
+    );
+
+    private final AtomicLongArray[] stripes = new AtomicLongArray[STRIPES];
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    LatencyHistogram() {
+        for (int stripe = 0; stripe < STRIPES; stripe++) stripes[stripe] = new AtomicLongArray(BUCKETS);
+    }
+
+    void record(long nanos) {
+        if (nanos < 0) nanos = 0;
+        stripes[stripeOf(Thread.currentThread())].incrementAndGet(bucketOf(nanos));
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    long[] counts() {
+        long[] counts = new long[BUCKETS];
+        for (AtomicLongArray stripe : stripes) {
+            for (int bucket = 0; bucket < BUCKETS; bucket++) counts[bucket] += stripe.get(bucket);
+        }
+        return counts;
+    }
+
+    long totalNanos() {
+        return totalNanos.sum();
+    }
+
+    long maxNanos() {
+        return maxNanos.get();
+    }
+
+    private static int stripeOf(Thread thread) {
+        // Thread ids are sequential, spread them so that threads started together land on different stripes
+        return (int) (thread.threadId() * 0x9E3779B97F4A7C15L >>> Integer.SIZE) & (STRIPES - 1);
+    }
+
+    static int bucketOf(long nanos) {
+        if (nanos < SUB_BUCKETS) return (int) nanos;
+        int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((nanos >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    /**
+     * @return Largest latency falling in given bucket
+     */
+    static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) return bucket;
+        if (bucket == BUCKETS - 1) return Long.MAX_VALUE;
+        return lowerBoundOf(bucket + 1) - 1;
+    }
+
+    private static long lowerBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) return bucket;
+        int shift = bucket / SUB_BUCKETS - 1;
+        return (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+    }
+
+}
@@ -0,0 +1,44 @@
+import java.util.function.Supplier;
+
+/**
+ * Supplier computing its value once, on first {@link LazySupplier#get()}, created by
+ * {@link CheckedSupplier#lazy(CheckedSupplier)}.
+ * <br>
+ * Initialization is double-checked on a volatile field, so once initialized, reads are a single volatile load without
+ * any locking. A failed computation is rethrown wrapped in a {@link RuntimeException} and retried on the next call.
+ *
+ * @param <T> Type of value
+ */
+public class LazySupplier<T> implements Supplier<T> {
+
+    private CheckedSupplier<T> supplier;
+    private volatile boolean initialized;
+    private T value;
+
+    LazySupplier(CheckedSupplier<T> supplier) {
+        this.supplier = supplier;
+    }
+
+    @Override
+    public T get() {
+        if (!initialized) {
+            synchronized (this) {
+                if (!initialized) {
+                    try {
+                        value = supplier.get();
+                    } catch (Exception e) {
+                        ExceptionUtils.throwWrappedInRuntime(e);
+                    }
+                    initialized = true;
+                    supplier = null;
+                }
+            }
+        }
+        return value;
+    }
+
+    public boolean isInitialized() {
+        return initialized;
+    }
+
+}
@@ -0,0 +1,150 @@
+import lombok.NonNull;
+
+import java.util.Arrays;
+
+/**
+ * Hash map keyed by a pair of longs (or ints), which neither boxes keys nor allocates a key object per lookup.
+ * Uses open addressing with linear probing over parallel arrays. Not thread safe. Values must not be null.
+ *
+ * @param <V> Type of values
+ * @see PairKeyedMap
+ */
+public class LongLongKeyedMap<V> {
+
+    /**
+     * Function of a pair of longs, taking them unboxed
+     */
+    @FunctionalInterface
+    public interface LongLongFunction<R> {
+        R apply(long former, long latter);
+    }
+
+    private long[] formers;
+    private long[] latters;
+    private Object[] values;
+    private int size;
+
+    public LongLongKeyedMap() {
+        this(0);
+    }
+
+    /**
+     * @param expectedSize Number of entries to hold without resizing
+     */
+    public LongLongKeyedMap(int expectedSize) {
+        allocate(PairKeyedMap.tableSizeFor(expectedSize));
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(long former, long latter) {
+        int slot = slotOf(former, latter);
+        return slot < 0 ? null : (V) values[slot];
+    }
+
+    public boolean containsKey(long former, long latter) {
+        return slotOf(former, latter) >= 0;
+    }
+
+    /**
+     * @return Previous value for key, null if none
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long former, long latter, @NonNull V value) {
+        int mask = values.length - 1;
+        for (int slot = hash(former, latter) & mask; ; slot = (slot + 1) & mask) {
+            if (null == values[slot]) {
+                formers[slot] = former;
+                latters[slot] = latter;
+                values[slot] = value;
+                if (++size > values.length >> 1) resize(values.length << 1);
+                return null;
+            }
+            if (former == formers[slot] && latter == latters[slot]) {
+                V previous = (V) values[slot];
+                values[slot] = value;
+                return previous;
+            }
+        }
+    }
+
+    /**
+     * @return Existing value for key, or value computed (and put) by given function if none
+     */
+    public V computeIfAbsent(long former, long latter, LongLongFunction<? extends V> f) {
+        V value = get(former, latter);
+        if (null == value) {
+            value = f.apply(former, latter);
+            if (null != value) put(former, latter, value);
+        }
+        return value;
+    }
+
+    /**
+     * @return Removed value for key, null if none
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(long former, long latter) {
+        int slot = slotOf(former, latter);
+        if (slot < 0) return null;
+        V removed = (V) values[slot];
+        // Backward shift deletion: move later entries of the probe sequence into the gap, so lookups never stop early
+        int mask = values.length - 1;
+        int gap = slot;
+        for (int next = (gap + 1) & mask; null != values[next]; next = (next + 1) & mask) {
+            int home = hash(formers[next], latters[next]) & mask;
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                formers[gap] = formers[next];
+                latters[gap] = latters[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+        }
+        values[gap] = null;
+        size--;
+        return removed;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return 0 == size;
+    }
+
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    private static int hash(long former, long latter) {
+        return PairKeyedMap.hash(Long.hashCode(former), Long.hashCode(latter));
+    }
+
+    private int slotOf(long former, long latter) {
+        int mask = values.length - 1;
+        for (int slot = hash(former, latter) & mask; ; slot = (slot + 1) & mask) {
+            if (null == values[slot]) return -1;
+            if (former == formers[slot] && latter == latters[slot]) return slot;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void resize(int capacity) {
+        long[] oldFormers = formers;
+        long[] oldLatters = latters;
+        Object[] oldValues = values;
+        allocate(capacity);
+        size = 0;
+        for (int slot = 0; slot < oldValues.length; slot++) {
+            if (null != oldValues[slot]) put(oldFormers[slot], oldLatters[slot], (V) oldValues[slot]);
+        }
+    }
+
+    private void allocate(int capacity) {
+        formers = new long[capacity];
+        latters = new long[capacity];
+        values = new Object[capacity];
+    }
+
+}
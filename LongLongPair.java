@@ -0,0 +1,10 @@
+import lombok.Value;
+
+/**
+ * {@link Pair} of two longs, without boxing either
+ */
+@Value(staticConstructor = "of")
+public class LongLongPair {
+    long former;
+    long latter;
+}
@@ -0,0 +1,151 @@
+import java.util.Arrays;
+
+/**
+ * Growable list of pairs of longs (or ints), keeping formers & latters in two parallel primitive arrays, which takes
+ * 16 bytes per pair instead of a {@link Pair} & two boxed values. Iteration, sorting & searching go through indices or
+ * a flyweight {@link Cursor}, so none of them allocates.
+ *
+ * @see PairList
+ * @see LongLongPair
+ */
+public class LongLongPairList {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private long[] formers;
+    private long[] latters;
+    private int size;
+
+    public LongLongPairList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongLongPairList(int capacity) {
+        this.formers = new long[capacity];
+        this.latters = new long[capacity];
+    }
+
+    public void add(long former, long latter) {
+        if (size == formers.length) {
+            int capacity = Math.max(DEFAULT_CAPACITY, size + (size >> 1));
+            formers = Arrays.copyOf(formers, capacity);
+            latters = Arrays.copyOf(latters, capacity);
+        }
+        formers[size] = former;
+        latters[size] = latter;
+        size++;
+    }
+
+    public void add(LongLongPair pair) {
+        add(pair.getFormer(), pair.getLatter());
+    }
+
+    public long getFormer(int index) {
+        return formers[checkIndex(index)];
+    }
+
+    public long getLatter(int index) {
+        return latters[checkIndex(index)];
+    }
+
+    /**
+     * @return New pair of former & latter at given index
+     */
+    public LongLongPair get(int index) {
+        return LongLongPair.of(getFormer(index), getLatter(index));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return 0 == size;
+    }
+
+    /**
+     * @return New cursor positioned before the first pair
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Sorts pairs in place by formers (unstable)
+     */
+    public void sortByFormer() {
+        IndexSorter.sort(size, (i, j) -> Long.compare(formers[i], formers[j]), this::swap);
+    }
+
+    /**
+     * Sorts pairs in place by latters (unstable)
+     */
+    public void sortByLatter() {
+        IndexSorter.sort(size, (i, j) -> Long.compare(latters[i], latters[j]), this::swap);
+    }
+
+    /**
+     * Searches a list sorted by formers
+     *
+     * @return Index of a pair with given former if present, else {@code -(insertion point) - 1}
+     */
+    public int binarySearchByFormer(long former) {
+        return Arrays.binarySearch(formers, 0, size, former);
+    }
+
+    /**
+     * Searches a list sorted by latters
+     *
+     * @return Index of a pair with given latter if present, else {@code -(insertion point) - 1}
+     */
+    public int binarySearchByLatter(long latter) {
+        return Arrays.binarySearch(latters, 0, size, latter);
+    }
+
+    private void swap(int i, int j) {
+        long former = formers[i];
+        formers[i] = formers[j];
+        formers[j] = former;
+        long latter = latters[i];
+        latters[i] = latters[j];
+        latters[j] = latter;
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+        return index;
+    }
+
+    /**
+     * Flyweight over pairs of the list, moving from pair to pair without allocating
+     */
+    public class Cursor {
+
+        private int index = -1;
+
+        /**
+         * @return Whether there was a next pair to move to
+         */
+        public boolean next() {
+            if (index + 1 >= size) return false;
+            index++;
+            return true;
+        }
+
+        public long getFormer() {
+            return LongLongPairList.this.getFormer(index);
+        }
+
+        public long getLatter() {
+            return LongLongPairList.this.getLatter(index);
+        }
+
+        public int index() {
+            return index;
+        }
+
+    }
+
+}
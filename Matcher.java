@@ -1,12 +1,13 @@
 import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
-import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * Similar to Kotlin's {@code when(param) { matcher -> value }}.
@@ -24,18 +25,62 @@ import java.util.function.Supplier;
  * @param <U> Return type of {@link Matcher#when}
  * @see AnyMatcher
  */
-@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE) @Getter(AccessLevel.PACKAGE)
 public class Matcher<T, U> {
 
+    /**
+     * Kind of arm, used by {@link CompiledMatcher} to pick a dispatch strategy
+     */
+    enum Kind { MATCHES, MATCHES_ANY, INSTANCE_OF, SATISFIES, OTHERWISE }
+
+    private final Kind kind;
+    private final Object operand;
     private final Predicate<T> predicate;
     private final Supplier<U> resultSupplier;
 
     /**
+     * Compiles given matchers once into a {@link CompiledMatcher}, which should be preferred over
+     * {@link Matcher#when(Object, Matcher[])} when the same arms are used to match many values.
+     * <br>
+     * Values of {@link Matcher#matchesAny(List, Supplier)} arms are copied when compiling, so later changes to their
+     * lists are not seen by the compiled matcher (unlike {@link Matcher#when(Object, Matcher[])}, which reads them on
+     * every call).
+     *
      * @see Matcher#when(Object, Matcher[])
+     * @see CompiledMatcher
      */
     @SafeVarargs
-    public static <T, U> Function<T, Optional<U>> whenValue(Matcher<T, U>... matchers) {
-        return value -> when(value, matchers);
+    public static <T, U> CompiledMatcher<T, U> whenValue(Matcher<T, U>... matchers) {
+        return CompiledMatcher.compile(matchers);
+    }
+
+    /**
+     * Creates a matcher for mutually exclusive arms, which adapts the order arms are tested in to their hits & costs.
+     * Result for a value matching more than one arm is undefined.
+     *
+     * @see ExclusiveMatcher
+     */
+    @SafeVarargs
+    public static <T, U> ExclusiveMatcher<T, U> exclusive(Matcher<T, U>... matchers) {
+        return exclusive(
+                ExclusiveMatcher.DEFAULT_SAMPLE_INTERVAL,
+                ExclusiveMatcher.DEFAULT_SAMPLES_PER_REORDER,
+                matchers
+        );
+    }
+
+    /**
+     * @param sampleInterval    One in these many calls (on average) is timed
+     * @param samplesPerReorder Arms are reordered after these many timed calls
+     * @see Matcher#exclusive(Matcher[])
+     */
+    @SafeVarargs
+    public static <T, U> ExclusiveMatcher<T, U> exclusive(
+            int sampleInterval,
+            int samplesPerReorder,
+            Matcher<T, U>... matchers
+    ) {
+        return new ExclusiveMatcher<>(matchers, sampleInterval, samplesPerReorder);
     }
 
     /**
@@ -43,30 +88,75 @@ public class Matcher<T, U> {
      */
     @SafeVarargs
     public static <T, U> Optional<U> when(T value, Matcher<T, U>... matchers) {
-        return Arrays.stream(matchers)
-                .filter(matcher -> matcher.predicate.test(value))
-                .findFirst()
-                .map(matcher -> matcher.resultSupplier.get());
+        for (Matcher<T, U> matcher : matchers) {
+            if (matcher.predicate.test(value)) return Optional.ofNullable(matcher.resultSupplier.get());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Partitions values by the first arm they match, without computing any result
+     *
+     * @see CompiledMatcher#classify(Collection)
+     */
+    @SafeVarargs
+    public static <T, U> List<List<T>> classify(Collection<T> values, Matcher<T, U>... matchers) {
+        return CompiledMatcher.compile(matchers).classify(values);
+    }
+
+    /**
+     * Partitions values by the first arm they match, without computing any result
+     *
+     * @see CompiledMatcher#classify(Stream)
+     */
+    @SafeVarargs
+    public static <T, U> List<List<T>> classify(Stream<T> values, Matcher<T, U>... matchers) {
+        return CompiledMatcher.compile(matchers).classify(values);
+    }
+
+    /**
+     * Counts values by the first arm they match, without computing any result
+     *
+     * @see CompiledMatcher#count(Collection)
+     */
+    @SafeVarargs
+    public static <T, U> long[] count(Collection<T> values, Matcher<T, U>... matchers) {
+        return CompiledMatcher.compile(matchers).count(values);
+    }
+
+    /**
+     * Counts values by the first arm they match, without computing any result
+     *
+     * @see CompiledMatcher#count(Stream)
+     */
+    @SafeVarargs
+    public static <T, U> long[] count(Stream<T> values, Matcher<T, U>... matchers) {
+        return CompiledMatcher.compile(matchers).count(values);
     }
 
     public static <T, U> Matcher<T, U> matches(T value, Supplier<U> resultSupplier) {
-        return new Matcher<>(value::equals, resultSupplier);
+        return new Matcher<>(Kind.MATCHES, value, value::equals, resultSupplier);
     }
 
     public static <T, U> Matcher<T, U> matchesAny(List<T> values, Supplier<U> resultSupplier) {
-        return new Matcher<>(t -> values.stream().anyMatch(v -> v.equals(t)), resultSupplier);
+        return new Matcher<>(Kind.MATCHES_ANY, values, t -> {
+            for (T v : values) {
+                if (v.equals(t)) return true;
+            }
+            return false;
+        }, resultSupplier);
     }
 
     public static <T, U, V> Matcher<T, U> instanceOf(Class<V> clazz, Supplier<U> resultSupplier) {
-        return new Matcher<>(clazz::isInstance, resultSupplier);
+        return new Matcher<>(Kind.INSTANCE_OF, clazz, clazz::isInstance, resultSupplier);
     }
 
     public static <T, U> Matcher<T, U> satisfies(Predicate<T> predicate, Supplier<U> resultSupplier) {
-        return new Matcher<>(predicate, resultSupplier);
+        return new Matcher<>(Kind.SATISFIES, null, predicate, resultSupplier);
     }
 
     public static <T, U> Matcher<T, U> otherwise(Supplier<U> resultSupplier) {
-        return new Matcher<>(__ -> true, resultSupplier);
+        return new Matcher<>(Kind.OTHERWISE, null, __ -> true, resultSupplier);
     }
 
 }
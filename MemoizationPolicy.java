@@ -0,0 +1,62 @@
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Duration;
+import java.util.function.ToLongBiFunction;
+
+/**
+ * Bounds & expiry of a {@link MemoizedFunction}.
+ * <br>
+ * Usage: <pre>{@code
+ *  MemoizationPolicy.<String, Config>builder()
+ *      .maximumWeight(10_000)
+ *      .eviction(MemoizationPolicy.Eviction.FREQUENCY)
+ *      .expireAfterWrite(Duration.ofMinutes(5))
+ *      .cacheFailuresFor(Duration.ofSeconds(1))
+ *      .build();
+ * }</pre>
+ *
+ * @param <K> Type of keys
+ * @param <V> Type of values
+ * @see CheckedFunction#memoize(CheckedFunction, MemoizationPolicy)
+ */
+@Value @Builder
+public class MemoizationPolicy<K, V> {
+
+    public enum Eviction {
+        /**
+         * Evict the least recently used entry
+         */
+        LRU,
+        /**
+         * Evict the least recently used entry, unless it was used often, in which case it gets another round
+         * (with its use count halved), so frequently used entries survive bursts of one-off keys. A few entries at
+         * most get another round per eviction, so that the weight bound always holds.
+         */
+        FREQUENCY
+    }
+
+    /**
+     * Maximum total weight of cached entries, which is their number with the default weigher
+     */
+    @Builder.Default long maximumWeight = 10_000;
+
+    /**
+     * Weight of an entry, 1 by default
+     */
+    @Builder.Default ToLongBiFunction<? super K, ? super V> weigher = (k, v) -> 1;
+
+    @Builder.Default Eviction eviction = Eviction.LRU;
+
+    /**
+     * Time after which a successfully loaded value is reloaded, never by default
+     */
+    Duration expireAfterWrite;
+
+    /**
+     * Time for which a failure is returned to callers instead of loading again, not cached by default.
+     * Each cached failure weighs 1 towards the maximum weight.
+     */
+    Duration cacheFailuresFor;
+
+}
@@ -0,0 +1,14 @@
+import lombok.Value;
+
+/**
+ * Snapshot of statistics of a {@link MemoizedFunction}
+ */
+@Value
+public class MemoizationStats {
+    long hits;
+    long misses;
+    long loadFailures;
+    long evictions;
+    long size;
+    long weight;
+}
@@ -0,0 +1,226 @@
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread safe {@link CheckedFunction} caching outputs of another one, created by
+ * {@link CheckedFunction#memoize(CheckedFunction, MemoizationPolicy)}.
+ * <br>
+ * Concurrent callers asking for the same key share a single in-flight load. Lookups only touch a
+ * {@link ConcurrentHashMap}; recency is recorded under a lock that hits merely try to take, so under contention some
+ * accesses go unrecorded (making eviction approximately LRU) instead of making callers wait.
+ *
+ * @param <K> Type of keys
+ * @param <V> Type of values
+ * @see MemoizationPolicy
+ */
+public class MemoizedFunction<K, V> implements CheckedFunction<K, V> {
+
+    private static final long FAILURE_WEIGHT = 1;
+    private static final int MAX_SECOND_CHANCES = 8;
+
+    private final CheckedFunction<K, V> function;
+    private final MemoizationPolicy<? super K, ? super V> policy;
+    private final long expireAfterWriteNanos;
+    private final long cacheFailuresForNanos;
+
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final LinkedHashMap<K, Entry<V>> accessOrder = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    MemoizedFunction(CheckedFunction<K, V> function, MemoizationPolicy<? super K, ? super V> policy) {
+        this.function = function;
+        this.policy = policy;
+        this.expireAfterWriteNanos = null == policy.getExpireAfterWrite()
+                ? Long.MAX_VALUE
+                : policy.getExpireAfterWrite().toNanos();
+        this.cacheFailuresForNanos = null == policy.getCacheFailuresFor()
+                ? 0
+                : policy.getCacheFailuresFor().toNanos();
+    }
+
+    @Override
+    public V apply(K key) throws Exception {
+        Entry<V> entry = entries.get(key);
+        if (null != entry && !entry.isExpired(System.nanoTime())) {
+            hits.increment();
+            entry.uses.incrementAndGet();
+            if (evictionLock.tryLock()) {
+                try {
+                    accessOrder.get(key);
+                } finally {
+                    evictionLock.unlock();
+                }
+            }
+            return await(entry);
+        }
+        Entry<V> loading = new Entry<>();
+        Entry<V> current = entries.compute(key, (k, old) -> null == old || old.isExpired(System.nanoTime())
+                ? loading
+                : old);
+        if (current != loading) {
+            hits.increment();
+            return await(current);
+        }
+        misses.increment();
+        return load(key, loading);
+    }
+
+    /**
+     * Removes cached output for given key, if any
+     */
+    public void invalidate(K key) {
+        evictionLock.lock();
+        try {
+            // A reloading key maps to its in-flight entry, while the completed one it replaces is still tracked
+            Entry<V> tracked = accessOrder.remove(key);
+            if (null != tracked) weight -= tracked.weight;
+            entries.remove(key);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Removes all cached outputs
+     */
+    public void invalidateAll() {
+        evictionLock.lock();
+        try {
+            entries.clear();
+            accessOrder.clear();
+            weight = 0;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public MemoizationStats stats() {
+        long size;
+        long weight;
+        evictionLock.lock();
+        try {
+            size = accessOrder.size();
+            weight = this.weight;
+        } finally {
+            evictionLock.unlock();
+        }
+        return new MemoizationStats(hits.sum(), misses.sum(), loadFailures.sum(), evictions.sum(), size, weight);
+    }
+
+    private V load(K key, Entry<V> entry) throws Exception {
+        V value;
+        try {
+            value = function.apply(key);
+            entry.weight = policy.getWeigher().applyAsLong(key, value);
+        } catch (Throwable t) {
+            loadFailed(key, entry, t);
+            throw t;
+        }
+        long now = System.nanoTime();
+        entry.expiresAt = Long.MAX_VALUE - now > expireAfterWriteNanos ? now + expireAfterWriteNanos : Long.MAX_VALUE;
+        entry.future.complete(value);
+        track(key, entry);
+        return value;
+    }
+
+    /**
+     * Completes entry of a failed load, keeping it (with a weight of {@value FAILURE_WEIGHT}) if failures are cached,
+     * so that cached failures are bounded & evicted like values
+     */
+    private void loadFailed(K key, Entry<V> entry, Throwable t) {
+        loadFailures.increment();
+        if (0 == cacheFailuresForNanos) {
+            entries.remove(key, entry);
+            entry.future.completeExceptionally(t);
+            return;
+        }
+        long now = System.nanoTime();
+        entry.expiresAt = Long.MAX_VALUE - now > cacheFailuresForNanos ? now + cacheFailuresForNanos : Long.MAX_VALUE;
+        entry.weight = FAILURE_WEIGHT;
+        entry.future.completeExceptionally(t);
+        track(key, entry);
+    }
+
+    /**
+     * Records completed entry for eviction, unless it was invalidated meanwhile
+     */
+    private void track(K key, Entry<V> entry) {
+        evictionLock.lock();
+        try {
+            if (entries.get(key) == entry) {
+                Entry<V> replaced = accessOrder.put(key, entry);
+                if (null != replaced) weight -= replaced.weight;
+                weight += entry.weight;
+                evict(entry);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Evicts entries until total weight is within bounds, to be called holding the eviction lock.
+     * With {@link MemoizationPolicy.Eviction#FREQUENCY}, upto {@value MAX_SECOND_CHANCES} often used entries are moved
+     * back (with their use count halved) before each eviction, so that finding a victim never scans the whole cache.
+     *
+     * @param tracked Entry just tracked, only evicted if it's the last one left
+     */
+    private void evict(Entry<V> tracked) {
+        boolean frequency = policy.getEviction() == MemoizationPolicy.Eviction.FREQUENCY;
+        int secondChances = 0;
+        while (weight > policy.getMaximumWeight() && !accessOrder.isEmpty()) {
+            Iterator<Map.Entry<K, Entry<V>>> iterator = accessOrder.entrySet().iterator();
+            Map.Entry<K, Entry<V>> eldest = iterator.next();
+            if (eldest.getValue() == tracked && iterator.hasNext()) eldest = iterator.next();
+            Entry<V> entry = eldest.getValue();
+            int uses = entry.uses.get();
+            if (frequency && uses > 1 && secondChances < MAX_SECOND_CHANCES && entry != tracked) {
+                secondChances++;
+                entry.uses.set(uses >> 1);
+                accessOrder.get(eldest.getKey()); // Moves it to most recently used
+                continue;
+            }
+            iterator.remove();
+            entries.remove(eldest.getKey(), entry);
+            weight -= entry.weight;
+            evictions.increment();
+            secondChances = 0;
+        }
+    }
+
+    private static <V> V await(Entry<V> entry) throws Exception {
+        try {
+            return entry.future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Error) throw (Error) e.getCause();
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+    }
+
+    private static class Entry<V> {
+
+        private final CompletableFuture<V> future = new CompletableFuture<>();
+        private final AtomicInteger uses = new AtomicInteger();
+        private volatile long expiresAt = Long.MAX_VALUE;
+        private long weight;
+
+        boolean isExpired(long now) {
+            return now - expiresAt > 0 && expiresAt != Long.MAX_VALUE;
+        }
+
+    }
+
+}
@@ -0,0 +1,54 @@
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Named {@link CallMetrics} recorded by instrumented wrappers, such as
+ * {@link CheckedFunction#instrumented(CheckedFunction, String, MetricsRegistry)}, for exporters to read through
+ * {@link MetricsRegistry#snapshot()}.
+ * <br>
+ * Usage: <pre>{@code
+ *  MetricsRegistry registry = new MetricsRegistry(16); // Time 1 in 16 calls
+ *  CheckedFunction<Path, String> read = CheckedFunction.instrumented(Files::readString, "read", registry);
+ *  ...
+ *  registry.snapshot().get("read").getLatencyPercentileNanos(99);
+ * }</pre>
+ */
+public class MetricsRegistry {
+
+    private final int sampleInterval;
+    private final ConcurrentHashMap<String, CallMetrics> metrics = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a registry timing every call
+     */
+    public MetricsRegistry() {
+        this(1);
+    }
+
+    /**
+     * @param sampleInterval Number of calls per call timed, on average
+     */
+    public MetricsRegistry(int sampleInterval) {
+        if (sampleInterval < 1) throw new IllegalArgumentException("Sample interval must be positive");
+        this.sampleInterval = sampleInterval;
+    }
+
+    /**
+     * @return Metrics recorded under given name, created if absent
+     */
+    public CallMetrics metrics(String name) {
+        return metrics.computeIfAbsent(name, n -> new CallMetrics(n, sampleInterval));
+    }
+
+    /**
+     * @return Snapshots of metrics of all names, ordered by name
+     */
+    public Map<String, CallMetricsSnapshot> snapshot() {
+        Map<String, CallMetricsSnapshot> snapshots = new TreeMap<>();
+        metrics.forEach((name, callMetrics) -> snapshots.put(name, callMetrics.snapshot()));
+        return Collections.unmodifiableMap(snapshots);
+    }
+
+}
@@ -0,0 +1,21 @@
+import java.util.List;
+
+/**
+ * Failure of several independent operations, eg. of {@link Result#traverseAll}: the first failure is the cause, and
+ * the rest are added as suppressed exceptions
+ */
+public class MultipleFailures extends Exception {
+
+    private final List<Exception> failures;
+
+    public MultipleFailures(List<Exception> failures) {
+        super(failures.size() + " operation(s) failed, first: " + failures.get(0), failures.get(0));
+        this.failures = List.copyOf(failures);
+        failures.subList(1, failures.size()).forEach(this::addSuppressed);
+    }
+
+    public List<Exception> getFailures() {
+        return failures;
+    }
+
+}
@@ -0,0 +1,296 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Append-only list of pairs of longs (or ints) kept off the heap, either in direct buffers or in a memory-mapped file,
+ * so that datasets larger than the heap neither cause long GC pauses nor need to fit in memory.
+ * <br>
+ * A file written by {@link OffHeapLongLongPairList#create(Path)} can be reopened by later stages with
+ * {@link OffHeapLongLongPairList#openReadOnly(Path)} and scanned in place, without copying it onto the heap.
+ * The file starts with a 16 byte header holding the number of pairs & the byte order of the file, followed by 16 bytes
+ * (former, latter) per pair, and is mapped in chunks of 1 GiB since a single buffer can't exceed 2 GiB.
+ * Files are written in the native byte order, so reads & writes need no byte swapping, and read in the order recorded
+ * in their header, so they can be reopened on a platform of another byte order.
+ * <br>
+ * Concurrent reads are safe, appends must be confined to one thread and published safely to readers.
+ * Mapped buffers are released by the garbage collector, some time after {@link OffHeapLongLongPairList#close()}.
+ *
+ * @see LongLongPairList
+ */
+public class OffHeapLongLongPairList implements AutoCloseable {
+
+    private static final int PAIR_BYTES = 2 * Long.BYTES;
+    private static final int HEADER_BYTES = PAIR_BYTES;
+    private static final int ORDER_OFFSET = Long.BYTES;
+    private static final byte BIG_ENDIAN = 0;
+    private static final byte LITTLE_ENDIAN = 1;
+    private static final int FILE_CHUNK_BYTES = 1 << 30;
+    private static final int MEMORY_CHUNK_BYTES = 1 << 24;
+
+    private final FileChannel channel;
+    private final boolean readOnly;
+    private final int chunkBytes;
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+    private long size;
+    private boolean closed;
+
+    private OffHeapLongLongPairList(FileChannel channel, boolean readOnly, int chunkBytes, long size) {
+        this.channel = channel;
+        this.readOnly = readOnly;
+        this.chunkBytes = chunkBytes;
+        this.size = size;
+    }
+
+    /**
+     * @return Empty list kept in direct (off-heap) buffers, which is lost on close
+     */
+    public static OffHeapLongLongPairList inMemory() {
+        return new OffHeapLongLongPairList(null, false, MEMORY_CHUNK_BYTES, 0);
+    }
+
+    /**
+     * @param file File to keep pairs in, replaced if it exists
+     * @return Empty list backed by given memory-mapped file, persisted on {@link OffHeapLongLongPairList#close()}
+     */
+    public static OffHeapLongLongPairList create(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(
+                file,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE
+        );
+        return new OffHeapLongLongPairList(channel, false, FILE_CHUNK_BYTES, 0);
+    }
+
+    /**
+     * @param file File written by a list created with {@link OffHeapLongLongPairList#create(Path)}
+     * @return Read-only list of pairs in given file, mapped into memory without copying
+     */
+    public static OffHeapLongLongPairList openReadOnly(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            while (header.hasRemaining()) {
+                if (channel.read(header, header.position()) < 0) {
+                    throw new IOException("Not a pair list file, too short: " + file);
+                }
+            }
+            ByteOrder order;
+            switch (header.get(ORDER_OFFSET)) {
+                case BIG_ENDIAN:
+                    order = ByteOrder.BIG_ENDIAN;
+                    break;
+                case LITTLE_ENDIAN:
+                    order = ByteOrder.LITTLE_ENDIAN;
+                    break;
+                default:
+                    throw new IOException("Not a pair list file, invalid byte order: " + file);
+            }
+            long size = header.order(order).getLong(0);
+            long bytes;
+            try {
+                bytes = Math.addExact(HEADER_BYTES, Math.multiplyExact(size, PAIR_BYTES));
+            } catch (ArithmeticException e) {
+                bytes = -1;
+            }
+            if (size < 0 || bytes < 0 || channel.size() < bytes) {
+                throw new IOException("Not a pair list file, invalid size " + size + ": " + file);
+            }
+            OffHeapLongLongPairList list = new OffHeapLongLongPairList(channel, true, FILE_CHUNK_BYTES, size);
+            for (long position = 0; position < bytes; position += FILE_CHUNK_BYTES) {
+                list.chunks.add(channel.map(
+                        FileChannel.MapMode.READ_ONLY,
+                        position,
+                        Math.min(FILE_CHUNK_BYTES, bytes - position)
+                ).order(order));
+            }
+            return list;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public void append(long former, long latter) {
+        if (readOnly) throw new UnsupportedOperationException("Can't append to a read-only pair list");
+        ensureOpen();
+        long position = positionOf(size);
+        int chunk = (int) (position / chunkBytes);
+        if (chunk == chunks.size()) chunks.add(newChunk(chunk));
+        ByteBuffer buffer = chunks.get(chunk);
+        int offset = (int) (position % chunkBytes);
+        buffer.putLong(offset, former);
+        buffer.putLong(offset + Long.BYTES, latter);
+        size++;
+    }
+
+    public void append(LongLongPair pair) {
+        append(pair.getFormer(), pair.getLatter());
+    }
+
+    public long getFormer(long index) {
+        ensureOpen();
+        long position = positionOf(checkIndex(index));
+        return chunks.get((int) (position / chunkBytes)).getLong((int) (position % chunkBytes));
+    }
+
+    public long getLatter(long index) {
+        ensureOpen();
+        long position = positionOf(checkIndex(index)) + Long.BYTES;
+        return chunks.get((int) (position / chunkBytes)).getLong((int) (position % chunkBytes));
+    }
+
+    /**
+     * @return New pair of former & latter at given index
+     */
+    public LongLongPair get(long index) {
+        return LongLongPair.of(getFormer(index), getLatter(index));
+    }
+
+    /**
+     * @return New {@link Pair} of former & latter at given index
+     */
+    public Pair<Long, Long> getPair(long index) {
+        return Pair.of(getFormer(index), getLatter(index));
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    /**
+     * @return New cursor positioned before the first pair, scanning pairs sequentially without allocating
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Writes number of pairs & all mapped changes to the file, if backed by one
+     */
+    public void flush() {
+        if (null == channel || readOnly) return;
+        ensureOpen();
+        if (chunks.isEmpty()) {
+            // Nothing mapped yet, so write the header directly rather than mapping a whole chunk for it
+            writeEmptyHeader();
+            return;
+        }
+        writeHeader(chunks.get(0));
+        for (ByteBuffer chunk : chunks) ((MappedByteBuffer) chunk).force();
+    }
+
+    private void writeEmptyHeader() {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.nativeOrder());
+        writeHeader(header);
+        try {
+            while (header.hasRemaining()) channel.write(header, header.position());
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Flushes & trims the backing file (if any) to its content, after which the list can't be used.
+     * Trimming is skipped where the platform refuses to truncate a file still mapped (until the garbage collector
+     * releases the mappings), readers only rely on the number of pairs in the header.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+        if (null != channel) {
+            try {
+                if (!readOnly) {
+                    flush();
+                    chunks.clear();
+                    try {
+                        channel.truncate(positionOf(size));
+                    } catch (IOException e) {
+                        // Mappings not released yet, the file keeps its unused tail
+                    }
+                }
+            } finally {
+                channel.close();
+            }
+        }
+        closed = true;
+        chunks.clear();
+    }
+
+    private void writeHeader(ByteBuffer buffer) {
+        buffer.putLong(0, size);
+        buffer.put(ORDER_OFFSET, ByteOrder.LITTLE_ENDIAN == buffer.order() ? LITTLE_ENDIAN : BIG_ENDIAN);
+    }
+
+    private ByteBuffer newChunk(int chunk) {
+        if (null == channel) return ByteBuffer.allocateDirect(chunkBytes).order(ByteOrder.nativeOrder());
+        try {
+            return channel
+                    .map(FileChannel.MapMode.READ_WRITE, (long) chunk * chunkBytes, chunkBytes)
+                    .order(ByteOrder.nativeOrder());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long positionOf(long index) {
+        return HEADER_BYTES + index * PAIR_BYTES;
+    }
+
+    private long checkIndex(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+        return index;
+    }
+
+    private void ensureOpen() {
+        if (closed) throw new IllegalStateException("Pair list is closed");
+    }
+
+    /**
+     * Flyweight over pairs of the list, moving from pair to pair without allocating
+     */
+    public class Cursor {
+
+        private long index = -1;
+
+        /**
+         * @return Whether there was a next pair to move to
+         */
+        public boolean next() {
+            ensureOpen();
+            if (index + 1 >= size) return false;
+            index++;
+            return true;
+        }
+
+        public long getFormer() {
+            return OffHeapLongLongPairList.this.getFormer(index);
+        }
+
+        public long getLatter() {
+            return OffHeapLongLongPairList.this.getLatter(index);
+        }
+
+        public long index() {
+            return index;
+        }
+
+    }
+
+}
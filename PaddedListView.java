@@ -0,0 +1,88 @@
+import java.util.AbstractList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Read-only view of a list padded with a default value upto a given size, without copying the list.
+ * <br>
+ * Views over {@link RandomAccess} lists are themselves {@link RandomAccess}; others iterate the source list once.
+ *
+ * @param <T> Type of list elements and default value
+ * @see CollectionUtils#paddedViewsWithDefault(List, Object)
+ */
+class PaddedListView<T> extends AbstractList<T> {
+
+    private final List<T> source;
+    private final T defaultValue;
+    private final int paddedSize;
+
+    private PaddedListView(List<T> source, T defaultValue, int paddedSize) {
+        this.source = source;
+        this.defaultValue = defaultValue;
+        this.paddedSize = paddedSize;
+    }
+
+    /**
+     * @param source       List to pad, considered empty if null
+     * @param defaultValue Value to pad with
+     * @param paddedSize   Size to pad upto, source is left as is if already as large
+     * @param <T>          Type of list elements and default value
+     * @return Read-only padded view of source
+     */
+    static <T> List<T> of(List<T> source, T defaultValue, int paddedSize) {
+        List<T> ts = null == source ? Collections.emptyList() : source;
+        int size = Math.max(ts.size(), paddedSize);
+        return ts instanceof RandomAccess
+                ? new RandomAccessPaddedListView<>(ts, defaultValue, size)
+                : new PaddedListView<>(ts, defaultValue, size);
+    }
+
+    @Override
+    public T get(int index) {
+        Objects.checkIndex(index, paddedSize);
+        return index < source.size() ? source.get(index) : defaultValue;
+    }
+
+    @Override
+    public int size() {
+        return paddedSize;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        Iterator<T> sourceIterator = source.iterator();
+        return new Iterator<T>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < paddedSize;
+            }
+
+            @Override
+            public T next() {
+                if (index >= paddedSize) throw new NoSuchElementException();
+                index++;
+                return sourceIterator.hasNext() ? sourceIterator.next() : defaultValue;
+            }
+        };
+    }
+
+    private static class RandomAccessPaddedListView<T> extends PaddedListView<T> implements RandomAccess {
+
+        RandomAccessPaddedListView(List<T> source, T defaultValue, int paddedSize) {
+            super(source, defaultValue, paddedSize);
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return listIterator();
+        }
+
+    }
+
+}
@@ -0,0 +1,174 @@
+import lombok.NonNull;
+
+import java.util.Arrays;
+import java.util.function.BiFunction;
+
+/**
+ * Hash map keyed by a pair of objects, looked up with both parts directly so that no {@link Pair} is allocated per
+ * lookup. Uses open addressing with linear probing over parallel arrays, and mixes both hash codes thoroughly so that
+ * small consecutive keys (eg. ints) don't cluster. Not thread safe, see {@link ConcurrentPairKeyedMap}.
+ * Keys & values must not be null.
+ *
+ * @param <A> Type of formers of keys
+ * @param <B> Type of latters of keys
+ * @param <V> Type of values
+ * @see LongLongKeyedMap
+ */
+public class PairKeyedMap<A, B, V> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private Object[] formers;
+    private Object[] latters;
+    private Object[] values;
+    private int size;
+
+    public PairKeyedMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param expectedSize Number of entries to hold without resizing
+     */
+    public PairKeyedMap(int expectedSize) {
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(@NonNull A former, @NonNull B latter) {
+        int slot = slotOf(former, latter);
+        return slot < 0 ? null : (V) values[slot];
+    }
+
+    public V get(Pair<? extends A, ? extends B> key) {
+        return get(key.getFormer(), key.getLatter());
+    }
+
+    public boolean containsKey(@NonNull A former, @NonNull B latter) {
+        return slotOf(former, latter) >= 0;
+    }
+
+    /**
+     * @return Previous value for key, null if none
+     */
+    @SuppressWarnings("unchecked")
+    public V put(@NonNull A former, @NonNull B latter, @NonNull V value) {
+        int mask = values.length - 1;
+        for (int slot = hash(former.hashCode(), latter.hashCode()) & mask; ; slot = (slot + 1) & mask) {
+            if (null == values[slot]) {
+                formers[slot] = former;
+                latters[slot] = latter;
+                values[slot] = value;
+                if (++size > values.length >> 1) resize(values.length << 1);
+                return null;
+            }
+            if (former.equals(formers[slot]) && latter.equals(latters[slot])) {
+                V previous = (V) values[slot];
+                values[slot] = value;
+                return previous;
+            }
+        }
+    }
+
+    /**
+     * @return Existing value for key, or value computed (and put) by given function if none
+     */
+    public V computeIfAbsent(@NonNull A former, @NonNull B latter, BiFunction<? super A, ? super B, ? extends V> f) {
+        V value = get(former, latter);
+        if (null == value) {
+            value = f.apply(former, latter);
+            if (null != value) put(former, latter, value);
+        }
+        return value;
+    }
+
+    /**
+     * @return Removed value for key, null if none
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(@NonNull A former, @NonNull B latter) {
+        int slot = slotOf(former, latter);
+        if (slot < 0) return null;
+        V removed = (V) values[slot];
+        // Backward shift deletion: move later entries of the probe sequence into the gap, so lookups never stop early
+        int mask = values.length - 1;
+        int gap = slot;
+        for (int next = (gap + 1) & mask; null != values[next]; next = (next + 1) & mask) {
+            int home = hash(formers[next].hashCode(), latters[next].hashCode()) & mask;
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                formers[gap] = formers[next];
+                latters[gap] = latters[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+        }
+        formers[gap] = null;
+        latters[gap] = null;
+        values[gap] = null;
+        size--;
+        return removed;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return 0 == size;
+    }
+
+    public void clear() {
+        Arrays.fill(formers, null);
+        Arrays.fill(latters, null);
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * Mixes hash codes of both parts of a key (murmur3 finalizer), so nearby keys spread over the whole table
+     */
+    static int hash(int formerHash, int latterHash) {
+        int h = formerHash * 0x9E3779B9 + latterHash;
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    /**
+     * @return Smallest power of two table size keeping load factor at most 1/2 for given size
+     */
+    static int tableSizeFor(int expectedSize) {
+        int capacity = Math.max(DEFAULT_CAPACITY, expectedSize << 1);
+        return Integer.highestOneBit(capacity - 1) << 1;
+    }
+
+    private int slotOf(A former, B latter) {
+        int mask = values.length - 1;
+        for (int slot = hash(former.hashCode(), latter.hashCode()) & mask; ; slot = (slot + 1) & mask) {
+            if (null == values[slot]) return -1;
+            if (former.equals(formers[slot]) && latter.equals(latters[slot])) return slot;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void resize(int capacity) {
+        Object[] oldFormers = formers;
+        Object[] oldLatters = latters;
+        Object[] oldValues = values;
+        allocate(capacity);
+        size = 0;
+        for (int slot = 0; slot < oldValues.length; slot++) {
+            if (null != oldValues[slot]) put((A) oldFormers[slot], (B) oldLatters[slot], (V) oldValues[slot]);
+        }
+    }
+
+    private void allocate(int capacity) {
+        formers = new Object[capacity];
+        latters = new Object[capacity];
+        values = new Object[capacity];
+    }
+
+}
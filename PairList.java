@@ -0,0 +1,168 @@
+import lombok.NonNull;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.BiConsumer;
+
+/**
+ * Growable list of pairs, keeping formers & latters in two parallel arrays instead of a {@link Pair} per element.
+ * Iteration, sorting & searching go through indices or a flyweight {@link Cursor}, so none of them allocates pairs.
+ *
+ * @param <T> Type of formers
+ * @param <U> Type of latters
+ * @see LongLongPairList
+ */
+public class PairList<T, U> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private Object[] formers;
+    private Object[] latters;
+    private int size;
+
+    public PairList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public PairList(int capacity) {
+        this.formers = new Object[capacity];
+        this.latters = new Object[capacity];
+    }
+
+    public void add(@NonNull T former, @NonNull U latter) {
+        if (size == formers.length) {
+            int capacity = Math.max(DEFAULT_CAPACITY, size + (size >> 1));
+            formers = Arrays.copyOf(formers, capacity);
+            latters = Arrays.copyOf(latters, capacity);
+        }
+        formers[size] = former;
+        latters[size] = latter;
+        size++;
+    }
+
+    public void add(Pair<? extends T, ? extends U> pair) {
+        add(pair.getFormer(), pair.getLatter());
+    }
+
+    @SuppressWarnings("unchecked")
+    public T getFormer(int index) {
+        return (T) formers[checkIndex(index)];
+    }
+
+    @SuppressWarnings("unchecked")
+    public U getLatter(int index) {
+        return (U) latters[checkIndex(index)];
+    }
+
+    /**
+     * @return New pair of former & latter at given index
+     */
+    public Pair<T, U> get(int index) {
+        return Pair.of(getFormer(index), getLatter(index));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return 0 == size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super T, ? super U> action) {
+        for (int i = 0; i < size; i++) action.accept((T) formers[i], (U) latters[i]);
+    }
+
+    /**
+     * @return New cursor positioned before the first pair
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Sorts pairs in place by formers (unstable)
+     */
+    @SuppressWarnings("unchecked")
+    public void sortByFormer(Comparator<? super T> comparator) {
+        IndexSorter.sort(size, (i, j) -> comparator.compare((T) formers[i], (T) formers[j]), this::swap);
+    }
+
+    /**
+     * Sorts pairs in place by latters (unstable)
+     */
+    @SuppressWarnings("unchecked")
+    public void sortByLatter(Comparator<? super U> comparator) {
+        IndexSorter.sort(size, (i, j) -> comparator.compare((U) latters[i], (U) latters[j]), this::swap);
+    }
+
+    /**
+     * Searches a list sorted by formers with the same comparator
+     *
+     * @return Index of a pair with given former if present, else {@code -(insertion point) - 1}
+     * @see Arrays#binarySearch(Object[], int, int, Object, Comparator)
+     */
+    @SuppressWarnings("unchecked")
+    public int binarySearchByFormer(T former, Comparator<? super T> comparator) {
+        return Arrays.binarySearch(formers, 0, size, former, (Comparator<Object>) comparator);
+    }
+
+    /**
+     * Searches a list sorted by latters with the same comparator
+     *
+     * @return Index of a pair with given latter if present, else {@code -(insertion point) - 1}
+     * @see Arrays#binarySearch(Object[], int, int, Object, Comparator)
+     */
+    @SuppressWarnings("unchecked")
+    public int binarySearchByLatter(U latter, Comparator<? super U> comparator) {
+        return Arrays.binarySearch(latters, 0, size, latter, (Comparator<Object>) comparator);
+    }
+
+    private void swap(int i, int j) {
+        Object former = formers[i];
+        formers[i] = formers[j];
+        formers[j] = former;
+        Object latter = latters[i];
+        latters[i] = latters[j];
+        latters[j] = latter;
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+        return index;
+    }
+
+    /**
+     * Flyweight over pairs of the list, moving from pair to pair without allocating
+     */
+    public class Cursor {
+
+        private int index = -1;
+
+        /**
+         * @return Whether there was a next pair to move to
+         */
+        public boolean next() {
+            if (index + 1 >= size) return false;
+            index++;
+            return true;
+        }
+
+        public T getFormer() {
+            return PairList.this.getFormer(index);
+        }
+
+        public U getLatter() {
+            return PairList.this.getLatter(index);
+        }
+
+        public int index() {
+            return index;
+        }
+
+    }
+
+}
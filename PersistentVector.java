@@ -0,0 +1,321 @@
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Immutable list sharing structure with the lists it is derived from, so that {@link PersistentVector#append(Object)}
+ * & {@link PersistentVector#with(int, Object)} copy O(log32 n) elements instead of the whole list.
+ * <br>
+ * Elements are kept in a 32-way trie with the last (upto) 32 elements in a separate tail, so appends usually only
+ * copy the tail. For bulk construction, {@link PersistentVector.Builder} mutates nodes it owns in place.
+ * Null elements are allowed. {@link java.util.List} mutators throw {@link UnsupportedOperationException}.
+ * <br>
+ * Usage: <pre>{@code
+ *  PersistentVector<String> base = PersistentVector.of("a", "b");
+ *  PersistentVector<String> extended = base.append("c"); // base is still [a, b]
+ * }</pre>
+ *
+ * @param <T> Type of elements
+ */
+public class PersistentVector<T> extends AbstractList<T> implements RandomAccess {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final Node EMPTY_NODE = new Node(null, new Object[WIDTH]);
+    private static final PersistentVector<Object> EMPTY = new PersistentVector<>(0, BITS, EMPTY_NODE, new Object[0]);
+
+    private final int count;
+    private final int shift;
+    private final Node root;
+    private final Object[] tail;
+
+    private PersistentVector(int count, int shift, Node root, Object[] tail) {
+        this.count = count;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentVector<T> empty() {
+        return (PersistentVector<T>) EMPTY;
+    }
+
+    @SafeVarargs
+    public static <T> PersistentVector<T> of(T... elements) {
+        return PersistentVector.<T>builder().addAll(Arrays.asList(elements)).build();
+    }
+
+    /**
+     * @param elements Elements to copy
+     * @param <T>      Type of elements
+     * @return Vector of given elements, or given collection itself if already a {@link PersistentVector}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentVector<T> copyOf(Collection<? extends T> elements) {
+        if (elements instanceof PersistentVector) return (PersistentVector<T>) elements;
+        return PersistentVector.<T>builder().addAll(elements).build();
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>(empty());
+    }
+
+    /**
+     * @return Builder starting with elements of this vector, which is left untouched by it
+     */
+    public Builder<T> toBuilder() {
+        return new Builder<>(this);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        Objects.checkIndex(index, count);
+        return (T) arrayFor(index)[index & MASK];
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    /**
+     * @param element Element to append
+     * @return New vector with element appended, sharing all but O(log32 n) elements with this vector
+     */
+    public PersistentVector<T> append(T element) {
+        if (count - tailOffset() < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = element;
+            return new PersistentVector<>(count + 1, shift, root, newTail);
+        }
+        Node tailNode = new Node(root.edit, tail);
+        int newShift = shift;
+        Node newRoot;
+        if ((count >>> BITS) > (1 << shift)) {
+            newRoot = new Node(root.edit, new Object[WIDTH]);
+            newRoot.array[0] = root;
+            newRoot.array[1] = newPath(root.edit, shift, tailNode);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(shift, root, tailNode);
+        }
+        return new PersistentVector<>(count + 1, newShift, newRoot, new Object[]{element});
+    }
+
+    /**
+     * @param index   Index of element to replace
+     * @param element Element to put at index
+     * @return New vector with element at index replaced, sharing all but O(log32 n) elements with this vector
+     */
+    public PersistentVector<T> with(int index, T element) {
+        Objects.checkIndex(index, count);
+        if (index >= tailOffset()) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = element;
+            return new PersistentVector<>(count, shift, root, newTail);
+        }
+        return new PersistentVector<>(count, shift, with(shift, root, index, element), tail);
+    }
+
+    /**
+     * @param elements Elements to append
+     * @return New vector with elements appended, sharing the trie of this vector
+     */
+    public PersistentVector<T> concat(Collection<? extends T> elements) {
+        if (elements.isEmpty()) return this;
+        if (isEmpty()) return copyOf(elements);
+        return toBuilder().addAll(elements).build();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int index = 0;
+            private Object[] array = count == 0 ? null : arrayFor(0);
+
+            @Override
+            public boolean hasNext() {
+                return index < count;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (index >= count) throw new NoSuchElementException();
+                if (index != 0 && (index & MASK) == 0) array = arrayFor(index);
+                return (T) array[index++ & MASK];
+            }
+        };
+    }
+
+    private int tailOffset() {
+        return tailOffset(count);
+    }
+
+    private static int tailOffset(int count) {
+        return count < WIDTH ? 0 : ((count - 1) >>> BITS) << BITS;
+    }
+
+    private Object[] arrayFor(int index) {
+        if (index >= tailOffset()) return tail;
+        Node node = root;
+        for (int level = shift; level > 0; level -= BITS) node = (Node) node.array[(index >>> level) & MASK];
+        return node.array;
+    }
+
+    private Node pushTail(int level, Node parent, Node tailNode) {
+        int subIndex = ((count - 1) >>> level) & MASK;
+        Node node = new Node(parent.edit, parent.array.clone());
+        Node child = (Node) parent.array[subIndex];
+        node.array[subIndex] = BITS == level ? tailNode
+                : null != child ? pushTail(level - BITS, child, tailNode)
+                : newPath(root.edit, level - BITS, tailNode);
+        return node;
+    }
+
+    private static Node with(int level, Node node, int index, Object element) {
+        Node copy = new Node(node.edit, node.array.clone());
+        if (0 == level) {
+            copy.array[index & MASK] = element;
+        } else {
+            int subIndex = (index >>> level) & MASK;
+            copy.array[subIndex] = with(level - BITS, (Node) node.array[subIndex], index, element);
+        }
+        return copy;
+    }
+
+    private static Node newPath(Object edit, int level, Node node) {
+        if (0 == level) return node;
+        Node path = new Node(edit, new Object[WIDTH]);
+        path.array[0] = newPath(edit, level - BITS, node);
+        return path;
+    }
+
+    /**
+     * Trie node, owned by the {@link Builder} whose edit token it carries (if any), which may mutate it in place
+     */
+    private static final class Node {
+
+        private final Object edit;
+        private final Object[] array;
+
+        Node(Object edit, Object[] array) {
+            this.edit = edit;
+            this.array = array;
+        }
+
+    }
+
+    /**
+     * Builds a {@link PersistentVector} by mutating trie nodes it created in place, copying shared nodes only once.
+     * Can't be used after {@link Builder#build()}.
+     *
+     * @param <T> Type of elements
+     */
+    public static class Builder<T> {
+
+        private Object edit = new Object();
+        private int count;
+        private int shift;
+        private Node root;
+        private Object[] tail;
+
+        private Builder(PersistentVector<T> vector) {
+            this.count = vector.count;
+            this.shift = vector.shift;
+            this.root = new Node(edit, vector.root.array.clone());
+            this.tail = Arrays.copyOf(vector.tail, WIDTH);
+        }
+
+        public Builder<T> add(T element) {
+            ensureOpen();
+            if (count - tailOffset(count) < WIDTH) {
+                tail[count++ & MASK] = element;
+                return this;
+            }
+            Node tailNode = new Node(edit, tail);
+            tail = new Object[WIDTH];
+            tail[0] = element;
+            if ((count >>> BITS) > (1 << shift)) {
+                Node newRoot = new Node(edit, new Object[WIDTH]);
+                newRoot.array[0] = root;
+                newRoot.array[1] = newPath(edit, shift, tailNode);
+                root = newRoot;
+                shift += BITS;
+            } else {
+                root = pushTail(shift, root, tailNode);
+            }
+            count++;
+            return this;
+        }
+
+        public Builder<T> addAll(Iterable<? extends T> elements) {
+            for (T element : elements) add(element);
+            return this;
+        }
+
+        public Builder<T> set(int index, T element) {
+            ensureOpen();
+            Objects.checkIndex(index, count);
+            if (index >= tailOffset(count)) {
+                tail[index & MASK] = element;
+            } else {
+                root = set(shift, root, index, element);
+            }
+            return this;
+        }
+
+        public int size() {
+            return count;
+        }
+
+        /**
+         * @return Vector of added elements, after which this builder can't be used
+         */
+        public PersistentVector<T> build() {
+            ensureOpen();
+            edit = null;
+            if (0 == count) return empty();
+            return new PersistentVector<>(count, shift, root, Arrays.copyOf(tail, count - tailOffset(count)));
+        }
+
+        private Node pushTail(int level, Node parent, Node tailNode) {
+            int subIndex = ((count - 1) >>> level) & MASK;
+            Node node = editable(parent);
+            Node child = (Node) node.array[subIndex];
+            node.array[subIndex] = BITS == level ? tailNode
+                    : null != child ? pushTail(level - BITS, child, tailNode)
+                    : newPath(edit, level - BITS, tailNode);
+            return node;
+        }
+
+        private Node set(int level, Node node, int index, Object element) {
+            Node editable = editable(node);
+            if (0 == level) {
+                editable.array[index & MASK] = element;
+            } else {
+                int subIndex = (index >>> level) & MASK;
+                editable.array[subIndex] = set(level - BITS, (Node) editable.array[subIndex], index, element);
+            }
+            return editable;
+        }
+
+        private Node editable(Node node) {
+            return node.edit == edit ? node : new Node(edit, node.array.clone());
+        }
+
+        private void ensureOpen() {
+            if (null == edit) throw new IllegalStateException("Builder already built a vector");
+        }
+
+    }
+
+}
@@ -0,0 +1,272 @@
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * Counterparts of {@link CollectionUtils} functions for columns of primitives, which neither box nor allocate per
+ * element. A column is a plain array; a zipped table is a flat, row-major array (or stream) of width equal to the
+ * number of columns, so element at (row, column) is at {@code row * width + column}.
+ */
+public class PrimitiveArrayUtils {
+
+    // ---------------------- Padding columns ----------------------
+
+    /**
+     * Pads given columns with default value upto the size of the largest column, replacing (in the input array)
+     * short or null columns by padded copies (null columns by empty ones when all columns are empty)
+     *
+     * @param columns      Array of columns to pad with default
+     * @param defaultValue Value to use for padding
+     * @return Input array of columns with padding applied
+     */
+    public static int[][] padArraysWithDefault(int[][] columns, int defaultValue) {
+        int paddedSize = maxLength(columns);
+        for (int i = 0; i < columns.length; i++) {
+            int[] column = null == columns[i] ? new int[0] : columns[i];
+            if (column.length < paddedSize) {
+                int[] padded = Arrays.copyOf(column, paddedSize);
+                Arrays.fill(padded, column.length, paddedSize, defaultValue);
+                columns[i] = padded;
+            } else if (null == columns[i]) {
+                columns[i] = column;
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * Pads given columns with default value upto the size of the largest column, replacing (in the input array)
+     * short or null columns by padded copies (null columns by empty ones when all columns are empty)
+     *
+     * @param columns      Array of columns to pad with default
+     * @param defaultValue Value to use for padding
+     * @return Input array of columns with padding applied
+     */
+    public static long[][] padArraysWithDefault(long[][] columns, long defaultValue) {
+        int paddedSize = maxLength(columns);
+        for (int i = 0; i < columns.length; i++) {
+            long[] column = null == columns[i] ? new long[0] : columns[i];
+            if (column.length < paddedSize) {
+                long[] padded = Arrays.copyOf(column, paddedSize);
+                Arrays.fill(padded, column.length, paddedSize, defaultValue);
+                columns[i] = padded;
+            } else if (null == columns[i]) {
+                columns[i] = column;
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * Pads given columns with default value upto the size of the largest column, replacing (in the input array)
+     * short or null columns by padded copies (null columns by empty ones when all columns are empty)
+     *
+     * @param columns      Array of columns to pad with default
+     * @param defaultValue Value to use for padding
+     * @return Input array of columns with padding applied
+     */
+    public static double[][] padArraysWithDefault(double[][] columns, double defaultValue) {
+        int paddedSize = maxLength(columns);
+        for (int i = 0; i < columns.length; i++) {
+            double[] column = null == columns[i] ? new double[0] : columns[i];
+            if (column.length < paddedSize) {
+                double[] padded = Arrays.copyOf(column, paddedSize);
+                Arrays.fill(padded, column.length, paddedSize, defaultValue);
+                columns[i] = padded;
+            } else if (null == columns[i]) {
+                columns[i] = column;
+            }
+        }
+        return columns;
+    }
+
+    // ---------------------- Zipping columns ----------------------
+
+    /**
+     * Creates a flat, row-major stream of same indexed elements of given columns, upto size of smallest column
+     * <p>
+     * Given columns [a1, a2, a3, a4] & [b1, b2, b3]
+     * <p>
+     * Returns a1, b1, a2, b2, a3, b3
+     *
+     * @param columns Columns to process
+     * @return Sized, splittable stream of rows laid out one after another
+     */
+    public static IntStream zippedStreamOf(int[]... columns) {
+        int width = columns.length;
+        return IntStream
+                .range(0, Math.multiplyExact(minLength(columns), width))
+                .map(i -> columns[i % width][i / width]);
+    }
+
+    /**
+     * Creates a flat, row-major array of same indexed elements of given columns, upto size of smallest column
+     * <p>
+     * Given columns [a1, a2, a3, a4] & [b1, b2, b3]
+     * <p>
+     * Returns [a1, b1, a2, b2, a3, b3]
+     *
+     * @param columns Columns to process
+     * @return Array of rows laid out one after another
+     */
+    public static int[] zippedArrayOf(int[]... columns) {
+        int width = columns.length;
+        int rows = minLength(columns);
+        int[] zipped = new int[Math.multiplyExact(rows, width)];
+        for (int column = 0; column < width; column++) {
+            int[] values = columns[column];
+            for (int row = 0, i = column; row < rows; row++, i += width) zipped[i] = values[row];
+        }
+        return zipped;
+    }
+
+    /**
+     * Creates a flat, row-major stream of same indexed elements of given columns, upto size of smallest column
+     * <p>
+     * Given columns [a1, a2, a3, a4] & [b1, b2, b3]
+     * <p>
+     * Returns a1, b1, a2, b2, a3, b3
+     *
+     * @param columns Columns to process
+     * @return Sized, splittable stream of rows laid out one after another
+     */
+    public static LongStream zippedStreamOf(long[]... columns) {
+        int width = columns.length;
+        return IntStream
+                .range(0, Math.multiplyExact(minLength(columns), width))
+                .mapToLong(i -> columns[i % width][i / width]);
+    }
+
+    /**
+     * Creates a flat, row-major array of same indexed elements of given columns, upto size of smallest column
+     * <p>
+     * Given columns [a1, a2, a3, a4] & [b1, b2, b3]
+     * <p>
+     * Returns [a1, b1, a2, b2, a3, b3]
+     *
+     * @param columns Columns to process
+     * @return Array of rows laid out one after another
+     */
+    public static long[] zippedArrayOf(long[]... columns) {
+        int width = columns.length;
+        int rows = minLength(columns);
+        long[] zipped = new long[Math.multiplyExact(rows, width)];
+        for (int column = 0; column < width; column++) {
+            long[] values = columns[column];
+            for (int row = 0, i = column; row < rows; row++, i += width) zipped[i] = values[row];
+        }
+        return zipped;
+    }
+
+    /**
+     * Creates a flat, row-major stream of same indexed elements of given columns, upto size of smallest column
+     * <p>
+     * Given columns [a1, a2, a3, a4] & [b1, b2, b3]
+     * <p>
+     * Returns a1, b1, a2, b2, a3, b3
+     *
+     * @param columns Columns to process
+     * @return Sized, splittable stream of rows laid out one after another
+     */
+    public static DoubleStream zippedStreamOf(double[]... columns) {
+        int width = columns.length;
+        return IntStream
+                .range(0, Math.multiplyExact(minLength(columns), width))
+                .mapToDouble(i -> columns[i % width][i / width]);
+    }
+
+    /**
+     * Creates a flat, row-major array of same indexed elements of given columns, upto size of smallest column
+     * <p>
+     * Given columns [a1, a2, a3, a4] & [b1, b2, b3]
+     * <p>
+     * Returns [a1, b1, a2, b2, a3, b3]
+     *
+     * @param columns Columns to process
+     * @return Array of rows laid out one after another
+     */
+    public static double[] zippedArrayOf(double[]... columns) {
+        int width = columns.length;
+        int rows = minLength(columns);
+        double[] zipped = new double[Math.multiplyExact(rows, width)];
+        for (int column = 0; column < width; column++) {
+            double[] values = columns[column];
+            for (int row = 0, i = column; row < rows; row++, i += width) zipped[i] = values[row];
+        }
+        return zipped;
+    }
+
+    // ---------------------- Joining columns ----------------------
+
+    /**
+     * Joins columns maintaining order
+     *
+     * @param columns Columns to join
+     * @return New column joining provided columns (preserving order)
+     */
+    public static int[] joinArrays(int[]... columns) {
+        int length = 0;
+        for (int[] column : columns) length = Math.addExact(length, column.length);
+        int[] joined = new int[length];
+        int offset = 0;
+        for (int[] column : columns) {
+            System.arraycopy(column, 0, joined, offset, column.length);
+            offset += column.length;
+        }
+        return joined;
+    }
+
+    /**
+     * Joins columns maintaining order
+     *
+     * @param columns Columns to join
+     * @return New column joining provided columns (preserving order)
+     */
+    public static long[] joinArrays(long[]... columns) {
+        int length = 0;
+        for (long[] column : columns) length = Math.addExact(length, column.length);
+        long[] joined = new long[length];
+        int offset = 0;
+        for (long[] column : columns) {
+            System.arraycopy(column, 0, joined, offset, column.length);
+            offset += column.length;
+        }
+        return joined;
+    }
+
+    /**
+     * Joins columns maintaining order
+     *
+     * @param columns Columns to join
+     * @return New column joining provided columns (preserving order)
+     */
+    public static double[] joinArrays(double[]... columns) {
+        int length = 0;
+        for (double[] column : columns) length = Math.addExact(length, column.length);
+        double[] joined = new double[length];
+        int offset = 0;
+        for (double[] column : columns) {
+            System.arraycopy(column, 0, joined, offset, column.length);
+            offset += column.length;
+        }
+        return joined;
+    }
+
+    private static int maxLength(Object[] columns) {
+        int length = 0;
+        for (Object column : columns) {
+            if (null != column) length = Math.max(length, Array.getLength(column));
+        }
+        return length;
+    }
+
+    private static int minLength(Object[] columns) {
+        if (columns.length == 0) return 0;
+        int length = Integer.MAX_VALUE;
+        for (Object column : columns) length = Math.min(length, Array.getLength(column));
+        return length;
+    }
+
+}
@@ -0,0 +1,115 @@
+import lombok.AllArgsConstructor;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Supplier caching its value for a time to live, refreshing it in the background ahead of expiry, created by
+ * {@link CheckedSupplier#refreshing(CheckedSupplier, Duration, Consumer)}.
+ * <br>
+ * The first {@link RefreshingSupplier#get()} blocks to load the initial value. After that callers get the cached value
+ * without locking: once three quarters of the time to live have passed, the next caller starts a single background
+ * refresh and keeps getting the current value until it completes. A failed refresh keeps the last good value, reports
+ * the exception to the handler & is retried after a quarter of the time to live.
+ * <br>
+ * The time to live is a hard limit: a value older than that (eg. after an idle period, or refreshes failing) is never
+ * returned. Callers then block while a single one of them loads a new value, like the first call, a failed load being
+ * rethrown wrapped in a {@link RuntimeException} & retried by the next call.
+ *
+ * @param <T> Type of value
+ */
+public class RefreshingSupplier<T> implements Supplier<T> {
+
+    private final CheckedSupplier<T> supplier;
+    private final long timeToLiveNanos;
+    private final long refreshAheadNanos;
+    private final long retryAfterNanos;
+    private final Consumer<Exception> exceptionHandler;
+    private final Executor executor;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    private volatile Snapshot<T> snapshot;
+
+    RefreshingSupplier(
+            CheckedSupplier<T> supplier,
+            Duration timeToLive,
+            Consumer<Exception> exceptionHandler,
+            Executor executor
+    ) {
+        if (timeToLive.isNegative() || timeToLive.isZero()) {
+            throw new IllegalArgumentException("Time to live must be positive, got " + timeToLive);
+        }
+        this.supplier = supplier;
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.refreshAheadNanos = timeToLive.toNanos() / 4 * 3;
+        this.retryAfterNanos = timeToLive.toNanos() / 4;
+        this.exceptionHandler = exceptionHandler;
+        this.executor = executor;
+    }
+
+    @Override
+    public T get() {
+        Snapshot<T> current = snapshot;
+        long now = System.nanoTime();
+        if (null == current || now - current.expiresAt >= 0) return load(current);
+        if (now - current.refreshAt >= 0 && refreshing.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::refresh);
+            } catch (RuntimeException e) {
+                refreshing.set(false);
+                exceptionHandler.accept(e);
+            }
+        }
+        return current.value;
+    }
+
+    /**
+     * @return Whether a background refresh is running
+     */
+    public boolean isRefreshing() {
+        return refreshing.get();
+    }
+
+    /**
+     * Loads a value on the calling thread, once for all callers finding the same missing or expired snapshot
+     */
+    private synchronized T load(Snapshot<T> expired) {
+        Snapshot<T> current = snapshot;
+        if (current != expired && System.nanoTime() - current.expiresAt < 0) return current.value;
+        try {
+            T value = supplier.get();
+            snapshot = loaded(value);
+            return value;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void refresh() {
+        try {
+            snapshot = loaded(supplier.get());
+        } catch (Exception e) {
+            Snapshot<T> current = snapshot;
+            snapshot = new Snapshot<>(current.value, System.nanoTime() + retryAfterNanos, current.expiresAt);
+            exceptionHandler.accept(e);
+        } finally {
+            refreshing.set(false);
+        }
+    }
+
+    private Snapshot<T> loaded(T value) {
+        long now = System.nanoTime();
+        return new Snapshot<>(value, now + refreshAheadNanos, now + timeToLiveNanos);
+    }
+
+    @AllArgsConstructor
+    private static class Snapshot<T> {
+        private final T value;
+        private final long refreshAt;
+        private final long expiresAt;
+    }
+
+}
@@ -3,23 +3,72 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-@ToString @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
-public class Result<T> {
+/**
+ * Either data ({@link Result.Success}) or the exception that prevented producing it ({@link Result.Failure}).
+ * <br>
+ * Each operation is implemented separately by both subtypes instead of checking for null data, so call sites seeing
+ * only one of them stay monomorphic.
+ *
+ * @param <T> Type of data
+ */
+public abstract sealed class Result<T> permits Result.Success, Result.Failure {
 
-    private final T data;
-    private final Exception error;
+    /**
+     * Number of applications run at once by traversals not given another limit
+     */
+    public static final int DEFAULT_MAX_PARALLELISM = 256;
 
+    private static final Result<Unit> UNIT = new Success<>(Unit.UNIT);
+    private static final Result<Boolean> TRUE = new Success<>(Boolean.TRUE);
+    private static final Result<Boolean> FALSE = new Success<>(Boolean.FALSE);
+
+    private Result() {
+    }
+
+    /**
+     * @return Shared result for {@link Boolean#TRUE}, {@link Boolean#FALSE} & {@link Unit#UNIT}, new one otherwise
+     */
+    @SuppressWarnings("unchecked")
     public static <T> Result<T> succeed(@NonNull T data) {
-        return new Result<>(data, null);
+        if (Boolean.TRUE == data) return (Result<T>) TRUE;
+        if (Boolean.FALSE == data) return (Result<T>) FALSE;
+        if (Unit.UNIT == data) return (Result<T>) UNIT;
+        return new Success<>(data);
+    }
+
+    /**
+     * @return Shared successful result carrying no data
+     */
+    public static Result<Unit> unit() {
+        return UNIT;
     }
 
     public static <T> Result<T> fail(@NonNull Exception e) {
-        return new Result<>(null, e);
+        return new Failure<>(e);
+    }
+
+    /**
+     * Fails with an {@link ExpectedFailure}, which skips capturing a stack trace
+     */
+    public static <T> Result<T> failExpected(String code, String message) {
+        return new Failure<>(new ExpectedFailure(code, message));
     }
 
     public static <T> Result<T> generate(Supplier<T> generator) {
@@ -30,54 +79,364 @@ public class Result<T> {
         }
     }
 
-    public T get() throws Exception {
-        if (null == data) {
-            throw error;
-        } else {
-            return data;
+    /**
+     * Like {@link Result#generate(Supplier)}, recording calls, failures & latencies of given generator under given
+     * name, see {@link MetricsRegistry}
+     *
+     * @return Supplier generating a new result on every call
+     */
+    public static <T> Supplier<Result<T>> instrumented(Supplier<T> generator, String name, MetricsRegistry registry) {
+        CallMetrics metrics = registry.metrics(name);
+        return () -> {
+            try {
+                return metrics.record(() -> Result.succeed(generator.get()));
+            } catch (Exception e) {
+                return Result.fail(e);
+            }
+        };
+    }
+
+    /**
+     * Applies given function to all items concurrently on virtual threads, failing fast
+     *
+     * @see Result#traverse(Collection, CheckedFunction, ExecutorService, int)
+     */
+    public static <T, R> Result<List<R>> traverse(Collection<T> items, CheckedFunction<? super T, ? extends R> f) {
+        return traverse(items, f, VirtualThreads.EXECUTOR);
+    }
+
+    /**
+     * Applies given function to all items concurrently on given executor, failing fast
+     *
+     * @see Result#traverse(Collection, CheckedFunction, ExecutorService, int)
+     */
+    public static <T, R> Result<List<R>> traverse(
+            Collection<T> items,
+            CheckedFunction<? super T, ? extends R> f,
+            ExecutorService executor
+    ) {
+        return traverse(items, f, executor, DEFAULT_MAX_PARALLELISM);
+    }
+
+    /**
+     * Applies given function to all items concurrently on given executor, at most {@code maxParallelism} at a time.
+     * As soon as any application fails, all outstanding ones are cancelled (interrupted), no further one is started
+     * and its failure is returned.
+     *
+     * @param items          Items to apply function to
+     * @param f              Function to apply, typically blocking (eg. doing I/O)
+     * @param executor       Executor to run applications on
+     * @param maxParallelism Number of applications run at once, the next one starting when any completes
+     * @return Successful result of all outputs (in order of items) if all applications succeeded, else first failure
+     * @see Result#traverseAll(Collection, CheckedFunction, ExecutorService, int)
+     */
+    public static <T, R> Result<List<R>> traverse(
+            Collection<T> items,
+            CheckedFunction<? super T, ? extends R> f,
+            ExecutorService executor,
+            int maxParallelism
+    ) {
+        return traverse(items, f, executor, maxParallelism, true);
+    }
+
+    /**
+     * @see Result#traverse(Collection, CheckedFunction)
+     */
+    public static <T, R> Result<List<R>> traverse(Stream<T> items, CheckedFunction<? super T, ? extends R> f) {
+        return traverse(items.collect(Collectors.toList()), f);
+    }
+
+    /**
+     * @see Result#traverse(Collection, CheckedFunction, ExecutorService)
+     */
+    public static <T, R> Result<List<R>> traverse(
+            Stream<T> items,
+            CheckedFunction<? super T, ? extends R> f,
+            ExecutorService executor
+    ) {
+        return traverse(items.collect(Collectors.toList()), f, executor);
+    }
+
+    /**
+     * @see Result#traverse(Collection, CheckedFunction, ExecutorService, int)
+     */
+    public static <T, R> Result<List<R>> traverse(
+            Stream<T> items,
+            CheckedFunction<? super T, ? extends R> f,
+            ExecutorService executor,
+            int maxParallelism
+    ) {
+        return traverse(items.collect(Collectors.toList()), f, executor, maxParallelism);
+    }
+
+    /**
+     * Applies given function to all items concurrently on virtual threads, accumulating all failures
+     *
+     * @see Result#traverseAll(Collection, CheckedFunction, ExecutorService, int)
+     */
+    public static <T, R> Result<List<R>> traverseAll(Collection<T> items, CheckedFunction<? super T, ? extends R> f) {
+        return traverseAll(items, f, VirtualThreads.EXECUTOR);
+    }
+
+    /**
+     * Applies given function to all items concurrently on given executor, accumulating all failures
+     *
+     * @see Result#traverseAll(Collection, CheckedFunction, ExecutorService, int)
+     */
+    public static <T, R> Result<List<R>> traverseAll(
+            Collection<T> items,
+            CheckedFunction<? super T, ? extends R> f,
+            ExecutorService executor
+    ) {
+        return traverseAll(items, f, executor, DEFAULT_MAX_PARALLELISM);
+    }
+
+    /**
+     * Applies given function to all items concurrently on given executor, at most {@code maxParallelism} at a time,
+     * letting every application complete
+     *
+     * @param items          Items to apply function to
+     * @param f              Function to apply, typically blocking (eg. doing I/O)
+     * @param executor       Executor to run applications on
+     * @param maxParallelism Number of applications run at once, the next one starting when any completes
+     * @return Successful result of all outputs (in order of items) if all applications succeeded, else failure with
+     * {@link MultipleFailures} holding all failures
+     * @see Result#traverse(Collection, CheckedFunction, ExecutorService, int)
+     */
+    public static <T, R> Result<List<R>> traverseAll(
+            Collection<T> items,
+            CheckedFunction<? super T, ? extends R> f,
+            ExecutorService executor,
+            int maxParallelism
+    ) {
+        return traverse(items, f, executor, maxParallelism, false);
+    }
+
+    /**
+     * @see Result#traverseAll(Collection, CheckedFunction)
+     */
+    public static <T, R> Result<List<R>> traverseAll(Stream<T> items, CheckedFunction<? super T, ? extends R> f) {
+        return traverseAll(items.collect(Collectors.toList()), f);
+    }
+
+    /**
+     * @see Result#traverseAll(Collection, CheckedFunction, ExecutorService)
+     */
+    public static <T, R> Result<List<R>> traverseAll(
+            Stream<T> items,
+            CheckedFunction<? super T, ? extends R> f,
+            ExecutorService executor
+    ) {
+        return traverseAll(items.collect(Collectors.toList()), f, executor);
+    }
+
+    /**
+     * @see Result#traverseAll(Collection, CheckedFunction, ExecutorService, int)
+     */
+    public static <T, R> Result<List<R>> traverseAll(
+            Stream<T> items,
+            CheckedFunction<? super T, ? extends R> f,
+            ExecutorService executor,
+            int maxParallelism
+    ) {
+        return traverseAll(items.collect(Collectors.toList()), f, executor, maxParallelism);
+    }
+
+    /**
+     * Runs given generators concurrently on virtual threads, failing fast
+     *
+     * @see Result#traverse(Collection, CheckedFunction, ExecutorService, int)
+     */
+    public static <T> Result<List<T>> sequence(Collection<? extends Supplier<? extends T>> generators) {
+        return sequence(generators, VirtualThreads.EXECUTOR);
+    }
+
+    /**
+     * Runs given generators concurrently on given executor, failing fast
+     *
+     * @see Result#traverse(Collection, CheckedFunction, ExecutorService, int)
+     */
+    public static <T> Result<List<T>> sequence(
+            Collection<? extends Supplier<? extends T>> generators,
+            ExecutorService executor
+    ) {
+        return traverse(generators, Supplier::get, executor, DEFAULT_MAX_PARALLELISM, true);
+    }
+
+    /**
+     * Runs given generators concurrently on virtual threads, accumulating all failures
+     *
+     * @see Result#traverseAll(Collection, CheckedFunction, ExecutorService, int)
+     */
+    public static <T> Result<List<T>> sequenceAll(Collection<? extends Supplier<? extends T>> generators) {
+        return sequenceAll(generators, VirtualThreads.EXECUTOR);
+    }
+
+    /**
+     * Runs given generators concurrently on given executor, accumulating all failures
+     *
+     * @see Result#traverseAll(Collection, CheckedFunction, ExecutorService, int)
+     */
+    public static <T> Result<List<T>> sequenceAll(
+            Collection<? extends Supplier<? extends T>> generators,
+            ExecutorService executor
+    ) {
+        return traverse(generators, Supplier::get, executor, DEFAULT_MAX_PARALLELISM, false);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, R> Result<List<R>> traverse(
+            Collection<T> items,
+            CheckedFunction<? super T, ? extends R> f,
+            ExecutorService executor,
+            int maxParallelism,
+            boolean failFast
+    ) {
+        if (maxParallelism < 1) throw new IllegalArgumentException("Need maxParallelism > 0, got " + maxParallelism);
+        Object[] outputs = new Object[items.size()];
+        List<Future<Void>> futures = new ArrayList<>(outputs.length);
+        List<Exception> failures = new ArrayList<>();
+        CompletionService<Void> completions = new ExecutorCompletionService<>(executor);
+        Iterator<T> unstarted = items.iterator();
+        try {
+            // Start upto maxParallelism applications, then one more as each completes
+            while (futures.size() < Math.min(maxParallelism, outputs.length)) {
+                futures.add(submit(completions, f, unstarted.next(), outputs, futures.size()));
+            }
+            for (int completed = 0; completed < outputs.length; completed++) {
+                try {
+                    completions.take().get();
+                } catch (ExecutionException e) {
+                    Exception failure = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                    if (failFast) return Result.fail(failure);
+                    failures.add(failure);
+                }
+                if (futures.size() < outputs.length) {
+                    futures.add(submit(completions, f, unstarted.next(), outputs, futures.size()));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Result.fail(e);
+        } finally {
+            futures.forEach(future -> future.cancel(true));
         }
+        if (!failures.isEmpty()) return Result.fail(new MultipleFailures(failures));
+        return Result.succeed((List<R>) Arrays.asList(outputs));
     }
 
-    public Optional<T> get(Consumer<Exception> exceptionHandler) throws Exception {
-        if (null == data) {
-            exceptionHandler.accept(error);
-            return Optional.empty();
-        } else {
+    private static <T, R> Future<Void> submit(
+            CompletionService<Void> completions,
+            CheckedFunction<? super T, ? extends R> f,
+            T item,
+            Object[] outputs,
+            int index
+    ) {
+        return completions.submit(() -> {
+            outputs[index] = f.apply(item);
+            return null;
+        });
+    }
+
+    public abstract T get() throws Exception;
+
+    public abstract Optional<T> get(Consumer<Exception> exceptionHandler) throws Exception;
+
+    public abstract void consume(Consumer<T> dataConsumer, Consumer<Exception> exceptionHandler) throws Exception;
+
+    public abstract <R> Result<R> map(Function<T, R> dataTransformer);
+
+    public abstract <R> Optional<R> mapToOptional(Function<T, R> dataTransformer, Consumer<Exception> exceptionHandler);
+
+    public abstract boolean succeeded();
+
+    public boolean failed() {
+        return !succeeded();
+    }
+
+    @ToString @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Success<T> extends Result<T> {
+
+        private final T data;
+
+        @Override
+        public T get() {
+            return data;
+        }
+
+        @Override
+        public Optional<T> get(Consumer<Exception> exceptionHandler) {
             return Optional.of(data);
         }
-    }
 
-    public void consume(Consumer<T> dataConsumer, Consumer<Exception> exceptionHandler) throws Exception {
-        if (null == data) {
-            exceptionHandler.accept(error);
-        } else {
+        @Override
+        public void consume(Consumer<T> dataConsumer, Consumer<Exception> exceptionHandler) {
             dataConsumer.accept(data);
         }
-    }
 
-    public <R> Result<R> map(Function<T, R> dataTransformer) {
-        if (null != data) {
+        @Override
+        public <R> Result<R> map(Function<T, R> dataTransformer) {
             return Result.generate(() -> dataTransformer.apply(data));
-        } else {
-            return Result.fail(error);
         }
+
+        @Override
+        public <R> Optional<R> mapToOptional(Function<T, R> dataTransformer, Consumer<Exception> exceptionHandler) {
+            return Optional.ofNullable(dataTransformer.apply(data));
+        }
+
+        @Override
+        public boolean succeeded() {
+            return true;
+        }
+
+        public T getData() {
+            return data;
+        }
+
     }
 
-    public <R> Optional<R> mapToOptional(Function<T, R> dataTransformer, Consumer<Exception> exceptionHandler) {
-        if (null == data) {
+    @ToString @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Failure<T> extends Result<T> {
+
+        private final Exception error;
+
+        @Override
+        public T get() throws Exception {
+            throw error;
+        }
+
+        @Override
+        public Optional<T> get(Consumer<Exception> exceptionHandler) {
             exceptionHandler.accept(error);
             return Optional.empty();
-        } else {
-            return Optional.ofNullable(dataTransformer.apply(data));
         }
-    }
 
-    public boolean succeeded() {
-        return null != data;
-    }
+        @Override
+        public void consume(Consumer<T> dataConsumer, Consumer<Exception> exceptionHandler) {
+            exceptionHandler.accept(error);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <R> Result<R> map(Function<T, R> dataTransformer) {
+            return (Result<R>) this;
+        }
+
+        @Override
+        public <R> Optional<R> mapToOptional(Function<T, R> dataTransformer, Consumer<Exception> exceptionHandler) {
+            exceptionHandler.accept(error);
+            return Optional.empty();
+        }
+
+        @Override
+        public boolean succeeded() {
+            return false;
+        }
+
+        public Exception getError() {
+            return error;
+        }
 
-    public boolean failed() {
-        return !succeeded();
     }
 
 }
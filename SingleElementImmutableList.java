@@ -2,8 +2,17 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
+/**
+ * @deprecated Carries a whole {@link ArrayList} for a single element, use {@link SmallImmutableList#of(Object)}
+ */
+@Deprecated
 public class SingleElementImmutableList<T> extends ArrayList<T> {
 
+    private static final String CANT_ADD = "Can't add to a " + SingleElementImmutableList.class.getName();
+    private static final String CANT_REMOVE = "Can't remove from a " + SingleElementImmutableList.class.getName();
+    private static final String CANT_CLEAR = "Can't clear a " + SingleElementImmutableList.class.getName();
+    private static final String CANT_SET = "Can't set for a " + SingleElementImmutableList.class.getName();
+
     private final T element;
 
     private SingleElementImmutableList(T element) {
@@ -28,57 +37,57 @@ public class SingleElementImmutableList<T> extends ArrayList<T> {
 
     @Override
     public boolean add(T t) {
-        throw new UnsupportedOperationException("Can't add to a " + SingleElementImmutableList.class.getName());
+        throw new UnsupportedOperationException(CANT_ADD);
     }
 
     @Override
     public boolean remove(Object o) {
-        throw new UnsupportedOperationException("Can't remove from a " + SingleElementImmutableList.class.getName());
+        throw new UnsupportedOperationException(CANT_REMOVE);
     }
 
     @Override
     public boolean addAll(Collection<? extends T> collection) {
-        throw new UnsupportedOperationException("Can't add to a " + SingleElementImmutableList.class.getName());
+        throw new UnsupportedOperationException(CANT_ADD);
     }
 
     @Override
     public boolean addAll(int i, Collection<? extends T> collection) {
-        throw new UnsupportedOperationException("Can't add to a " + SingleElementImmutableList.class.getName());
+        throw new UnsupportedOperationException(CANT_ADD);
     }
 
     @Override
     public boolean removeAll(Collection<?> collection) {
-        throw new UnsupportedOperationException("Can't remove from a " + SingleElementImmutableList.class.getName());
+        throw new UnsupportedOperationException(CANT_REMOVE);
     }
 
     @Override
     public boolean retainAll(Collection<?> collection) {
-        throw new UnsupportedOperationException("Can't remove from a " + SingleElementImmutableList.class.getName());
+        throw new UnsupportedOperationException(CANT_REMOVE);
     }
 
     @Override
     public void clear() {
-        throw new UnsupportedOperationException("Can't clear a " + SingleElementImmutableList.class.getName());
+        throw new UnsupportedOperationException(CANT_CLEAR);
     }
 
     @Override
     public T set(int i, T t) {
-        throw new UnsupportedOperationException("Can't set for a " + SingleElementImmutableList.class.getName());
+        throw new UnsupportedOperationException(CANT_SET);
     }
 
     @Override
     public void add(int i, T t) {
-        throw new UnsupportedOperationException("Can't add to a " + SingleElementImmutableList.class.getName());
+        throw new UnsupportedOperationException(CANT_ADD);
     }
 
     @Override
     public T remove(int i) {
-        throw new UnsupportedOperationException("Can't remove from a " + SingleElementImmutableList.class.getName());
+        throw new UnsupportedOperationException(CANT_REMOVE);
     }
 
     @Override
     public List<T> subList(int i, int i1) {
-        throw new UnsupportedOperationException("Can't sublist a " + SingleElementImmutableList.class.getName());
+        return SmallImmutableList.of(element).subList(i, i1);
     }
 
 }
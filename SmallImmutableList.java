@@ -0,0 +1,427 @@
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+/**
+ * Compact immutable lists: lists of upto 4 elements keep them in fields, larger ones in an exactly sized array, so
+ * each list costs no more than an object header & its elements. Null elements are allowed.
+ * <br>
+ * Implements {@link List} over {@link AbstractCollection} rather than extending {@link java.util.AbstractList}, which
+ * would add a modification count to every list.
+ * <br>
+ * All mutators throw {@link UnsupportedOperationException}, and {@link SmallImmutableList#subList(int, int)} returns
+ * another immutable list.
+ *
+ * @param <T> Type of elements
+ * @see SingleElementImmutableList
+ */
+public abstract class SmallImmutableList<T> extends AbstractCollection<T> implements List<T>, RandomAccess {
+
+    private SmallImmutableList() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> SmallImmutableList<T> of() {
+        return (SmallImmutableList<T>) List0.INSTANCE;
+    }
+
+    public static <T> SmallImmutableList<T> of(T e0) {
+        return new List1<>(e0);
+    }
+
+    public static <T> SmallImmutableList<T> of(T e0, T e1) {
+        return new List2<>(e0, e1);
+    }
+
+    public static <T> SmallImmutableList<T> of(T e0, T e1, T e2) {
+        return new List3<>(e0, e1, e2);
+    }
+
+    public static <T> SmallImmutableList<T> of(T e0, T e1, T e2, T e3) {
+        return new List4<>(e0, e1, e2, e3);
+    }
+
+    @SafeVarargs
+    public static <T> SmallImmutableList<T> of(T... elements) {
+        return fromArray(elements.clone());
+    }
+
+    /**
+     * @param elements Elements to copy
+     * @param <T>      Type of elements
+     * @return Immutable list of given elements, or given list itself if already a {@link SmallImmutableList}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> SmallImmutableList<T> copyOf(Collection<? extends T> elements) {
+        if (elements instanceof SmallImmutableList) return (SmallImmutableList<T>) elements;
+        return fromArray(elements.toArray());
+    }
+
+    /**
+     * @param elements Array to take ownership of (must not be modified afterwards)
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> SmallImmutableList<T> fromArray(Object[] elements) {
+        switch (elements.length) {
+            case 0:
+                return of();
+            case 1:
+                return new List1<>((T) elements[0]);
+            case 2:
+                return new List2<>((T) elements[0], (T) elements[1]);
+            case 3:
+                return new List3<>((T) elements[0], (T) elements[1], (T) elements[2]);
+            case 4:
+                return new List4<>((T) elements[0], (T) elements[1], (T) elements[2], (T) elements[3]);
+            default:
+                return new ListN<>(elements);
+        }
+    }
+
+    /**
+     * @return New modifiable list with same elements
+     */
+    public List<T> toModifiableList() {
+        return toModifiableList(size());
+    }
+
+    /**
+     * @param capacity Initial capacity of modifiable list, to avoid growing it if more elements are to be added
+     * @return New modifiable list with same elements
+     */
+    public List<T> toModifiableList(int capacity) {
+        List<T> list = new ArrayList<>(Math.max(capacity, size()));
+        list.addAll(this);
+        return list;
+    }
+
+    @Override
+    public T set(int index, T element) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void add(int index, T element) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public T remove(int index) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends T> elements) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        for (int i = 0; i < size(); i++) {
+            if (Objects.equals(o, get(i))) return i;
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        for (int i = size() - 1; i >= 0; i--) {
+            if (Objects.equals(o, get(i))) return i;
+        }
+        return -1;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Itr(0);
+    }
+
+    @Override
+    public ListIterator<T> listIterator() {
+        return new Itr(0);
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int index) {
+        Objects.checkIndex(index, size() + 1);
+        return new Itr(index);
+    }
+
+    @Override
+    public SmallImmutableList<T> subList(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size());
+        if (fromIndex == 0 && toIndex == size()) return this;
+        Object[] elements = new Object[toIndex - fromIndex];
+        for (int i = fromIndex; i < toIndex; i++) elements[i - fromIndex] = get(i);
+        return fromArray(elements);
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] elements = new Object[size()];
+        for (int i = 0; i < elements.length; i++) elements[i] = get(i);
+        return elements;
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        for (int i = 0; i < size(); i++) action.accept(get(i));
+    }
+
+    /**
+     * Equal to any {@link List} with equal elements in the same order, as specified by {@link List#equals(Object)}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) return true;
+        if (!(o instanceof List)) return false;
+        Iterator<?> others = ((List<?>) o).iterator();
+        for (int i = 0; i < size(); i++) {
+            if (!others.hasNext() || !Objects.equals(get(i), others.next())) return false;
+        }
+        return !others.hasNext();
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for (int i = 0; i < size(); i++) hashCode = 31 * hashCode + Objects.hashCode(get(i));
+        return hashCode;
+    }
+
+    /**
+     * Read-only iterator moving by index
+     */
+    private class Itr implements ListIterator<T> {
+
+        private int cursor;
+
+        Itr(int cursor) {
+            this.cursor = cursor;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size();
+        }
+
+        @Override
+        public T next() {
+            if (cursor >= size()) throw new NoSuchElementException();
+            return get(cursor++);
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return cursor > 0;
+        }
+
+        @Override
+        public T previous() {
+            if (cursor <= 0) throw new NoSuchElementException();
+            return get(--cursor);
+        }
+
+        @Override
+        public int nextIndex() {
+            return cursor;
+        }
+
+        @Override
+        public int previousIndex() {
+            return cursor - 1;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void set(T t) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void add(T t) {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+    private static final class List0<T> extends SmallImmutableList<T> {
+
+        private static final List0<Object> INSTANCE = new List0<>();
+
+        @Override
+        public T get(int index) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length 0");
+        }
+
+        @Override
+        public int size() {
+            return 0;
+        }
+
+    }
+
+    private static final class List1<T> extends SmallImmutableList<T> {
+
+        private final T e0;
+
+        List1(T e0) {
+            this.e0 = e0;
+        }
+
+        @Override
+        public T get(int index) {
+            Objects.checkIndex(index, 1);
+            return e0;
+        }
+
+        @Override
+        public int size() {
+            return 1;
+        }
+
+    }
+
+    private static final class List2<T> extends SmallImmutableList<T> {
+
+        private final T e0;
+        private final T e1;
+
+        List2(T e0, T e1) {
+            this.e0 = e0;
+            this.e1 = e1;
+        }
+
+        @Override
+        public T get(int index) {
+            switch (index) {
+                case 0:
+                    return e0;
+                case 1:
+                    return e1;
+                default:
+                    throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length 2");
+            }
+        }
+
+        @Override
+        public int size() {
+            return 2;
+        }
+
+    }
+
+    private static final class List3<T> extends SmallImmutableList<T> {
+
+        private final T e0;
+        private final T e1;
+        private final T e2;
+
+        List3(T e0, T e1, T e2) {
+            this.e0 = e0;
+            this.e1 = e1;
+            this.e2 = e2;
+        }
+
+        @Override
+        public T get(int index) {
+            switch (index) {
+                case 0:
+                    return e0;
+                case 1:
+                    return e1;
+                case 2:
+                    return e2;
+                default:
+                    throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length 3");
+            }
+        }
+
+        @Override
+        public int size() {
+            return 3;
+        }
+
+    }
+
+    private static final class List4<T> extends SmallImmutableList<T> {
+
+        private final T e0;
+        private final T e1;
+        private final T e2;
+        private final T e3;
+
+        List4(T e0, T e1, T e2, T e3) {
+            this.e0 = e0;
+            this.e1 = e1;
+            this.e2 = e2;
+            this.e3 = e3;
+        }
+
+        @Override
+        public T get(int index) {
+            switch (index) {
+                case 0:
+                    return e0;
+                case 1:
+                    return e1;
+                case 2:
+                    return e2;
+                case 3:
+                    return e3;
+                default:
+                    throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length 4");
+            }
+        }
+
+        @Override
+        public int size() {
+            return 4;
+        }
+
+    }
+
+    private static final class ListN<T> extends SmallImmutableList<T> {
+
+        private final Object[] elements;
+
+        ListN(Object[] elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            return (T) elements[index];
+        }
+
+        @Override
+        public int size() {
+            return elements.length;
+        }
+
+        @Override
+        public Object[] toArray() {
+            return Arrays.copyOf(elements, elements.length, Object[].class);
+        }
+
+    }
+
+}
@@ -0,0 +1,7 @@
+/**
+ * Type with a single value, similar to Kotlin's {@code Unit}: for results that carry no data, such as
+ * {@link Result#unit()}, without resorting to null.
+ */
+public enum Unit {
+    UNIT
+}
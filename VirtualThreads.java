@@ -0,0 +1,12 @@
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Shared executor starting a virtual thread per task, default for utilities running blocking work concurrently.
+ * It is never shut down, which is fine as virtual threads don't keep the JVM alive.
+ */
+class VirtualThreads {
+
+    static final ExecutorService EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+}
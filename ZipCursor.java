@@ -0,0 +1,130 @@
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * Reusable cursor over same indexed elements of lists, upto size of smallest provided list. Allocates nothing per row.
+ * <br>
+ * Usage: <pre>{@code
+ *  ZipCursor<String> cursor = ZipCursor.of(names, surnames);
+ *  while (cursor.next()) {
+ *      print(cursor.get(0) + " " + cursor.get(1));
+ *  }
+ * }</pre>
+ * {@link RandomAccess} lists are read by index, others through iterators advanced in lockstep, so zipping linked lists
+ * stays linear.
+ *
+ * @param <T> Type of elements in lists
+ * @see CollectionUtils#homogenousZippedViewStreamOf(List[])
+ */
+public class ZipCursor<T> {
+
+    private final List<? extends T>[] lists;
+    private final Iterator<? extends T>[] iterators;
+    private final Object[] current;
+    private final int size;
+    private final List<T> row = new RowView();
+    private int index = -1;
+
+    @SuppressWarnings("unchecked")
+    private ZipCursor(List<? extends T>[] lists) {
+        this.lists = lists;
+        this.iterators = (Iterator<? extends T>[]) new Iterator<?>[lists.length];
+        this.current = new Object[lists.length];
+        int size = lists.length == 0 ? 0 : Integer.MAX_VALUE;
+        for (int column = 0; column < lists.length; column++) {
+            size = Math.min(size, lists[column].size());
+            if (!(lists[column] instanceof RandomAccess)) iterators[column] = lists[column].iterator();
+        }
+        this.size = size;
+    }
+
+    @SafeVarargs
+    public static <T> ZipCursor<T> of(List<? extends T>... lists) {
+        return new ZipCursor<>(lists.clone());
+    }
+
+    /**
+     * Moves the cursor to the next row
+     *
+     * @return Whether there was a next row
+     */
+    public boolean next() {
+        if (index + 1 >= size) {
+            index = size;
+            return false;
+        }
+        index++;
+        for (int column = 0; column < iterators.length; column++) {
+            if (null != iterators[column]) current[column] = iterators[column].next();
+        }
+        return true;
+    }
+
+    /**
+     * @param column Index of list to get element of
+     * @return Element of given list at current row
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int column) {
+        if (index < 0 || index >= size) throw new NoSuchElementException("Cursor is not on a row");
+        return null == iterators[column] ? lists[column].get(index) : (T) current[column];
+    }
+
+    /**
+     * @return Live, read-only view of the current row, which changes as the cursor moves
+     */
+    public List<T> row() {
+        return row;
+    }
+
+    /**
+     * @return Read-only copy of the current row, which doesn't change as the cursor moves
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> rowSnapshot() {
+        Object[] elements = new Object[lists.length];
+        for (int column = 0; column < lists.length; column++) elements[column] = get(column);
+        return Collections.unmodifiableList(Arrays.asList((T[]) elements));
+    }
+
+    /**
+     * @return Index of current row
+     */
+    public int index() {
+        return index;
+    }
+
+    /**
+     * @return Number of lists zipped
+     */
+    public int width() {
+        return lists.length;
+    }
+
+    /**
+     * @return Number of rows, i.e. size of smallest provided list
+     */
+    public int size() {
+        return size;
+    }
+
+    private class RowView extends AbstractList<T> implements RandomAccess {
+
+        @Override
+        public T get(int column) {
+            return ZipCursor.this.get(column);
+        }
+
+        @Override
+        public int size() {
+            return lists.length;
+        }
+
+    }
+
+}
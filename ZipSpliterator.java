@@ -0,0 +1,90 @@
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator over rows of same indexed elements of {@link RandomAccess} lists, upto size of smallest provided list.
+ * <br>
+ * Splits into balanced halves of the row range and reports {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED},
+ * {@link Spliterator#ORDERED} & {@link Spliterator#IMMUTABLE}, so zipped streams scale across a fork-join pool.
+ * Source lists must not be structurally modified while being traversed.
+ *
+ * @param <T> Type of elements in lists
+ * @see CollectionUtils#homogenousZippedStreamOf(List[])
+ */
+public class ZipSpliterator<T> implements Spliterator<List<T>> {
+
+    /**
+     * Creates a row out of elements at given index of given lists
+     *
+     * @param <T> Type of elements in lists
+     */
+    @FunctionalInterface
+    public interface RowFactory<T> {
+        List<T> row(List<T>[] lists, int index);
+    }
+
+    private final List<T>[] lists;
+    private final RowFactory<T> rowFactory;
+    private int index;
+    private final int fence;
+
+    private ZipSpliterator(List<T>[] lists, RowFactory<T> rowFactory, int origin, int fence) {
+        this.lists = lists;
+        this.rowFactory = rowFactory;
+        this.index = origin;
+        this.fence = fence;
+    }
+
+    /**
+     * @param lists      Random access lists to zip
+     * @param rowFactory Factory creating each row
+     * @param <T>        Type of elements in lists
+     * @return Spliterator over all rows
+     */
+    public static <T> ZipSpliterator<T> of(List<T>[] lists, RowFactory<T> rowFactory) {
+        int size = lists.length == 0 ? 0 : Integer.MAX_VALUE;
+        for (List<T> list : lists) {
+            if (!(list instanceof RandomAccess)) {
+                throw new IllegalArgumentException("Can't split a " + list.getClass().getName() + " by index");
+            }
+            size = Math.min(size, list.size());
+        }
+        return new ZipSpliterator<>(lists, rowFactory, 0, size);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super List<T>> action) {
+        if (index >= fence) return false;
+        action.accept(rowFactory.row(lists, index++));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super List<T>> action) {
+        int i = index;
+        index = fence;
+        for (; i < fence; i++) action.accept(rowFactory.row(lists, i));
+    }
+
+    @Override
+    public Spliterator<List<T>> trySplit() {
+        int middle = (index + fence) >>> 1;
+        if (middle <= index) return null;
+        ZipSpliterator<T> prefix = new ZipSpliterator<>(lists, rowFactory, index, middle);
+        index = middle;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return SIZED | SUBSIZED | ORDERED | IMMUTABLE;
+    }
+
+}
@@ -0,0 +1,82 @@
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+
+/**
+ * Workloads for {@code benchmarks.CheckedWrapperBenchmark}, each applying a checked function adapted in some way to
+ * {@value BATCH} values of which a given ratio fail, and counting successes.
+ * <br>
+ * Lives in the default package to reach the library, which benchmarks (required to be in a named package) can't.
+ */
+public class CheckedWorkloads {
+
+    private static final int BATCH = 1024;
+    private static final int SAMPLE_INTERVAL = 64;
+
+    public static IntSupplier wrap(double failureRatio) {
+        return countSuccesses(CheckedFunction.wrap(function(failureRatio)));
+    }
+
+    public static IntSupplier wrapSneakily(double failureRatio) {
+        return countSuccesses(CheckedFunction.wrapSneakily(function(failureRatio)));
+    }
+
+    /**
+     * Wraps an instrumented function timing every call
+     */
+    public static IntSupplier instrumented(double failureRatio) {
+        MetricsRegistry registry = new MetricsRegistry();
+        return countSuccesses(CheckedFunction.wrap(
+                CheckedFunction.instrumented(function(failureRatio), "function", registry)
+        ));
+    }
+
+    /**
+     * Wraps an instrumented function timing 1 in {@value SAMPLE_INTERVAL} calls
+     */
+    public static IntSupplier instrumentedSampled(double failureRatio) {
+        MetricsRegistry registry = new MetricsRegistry(SAMPLE_INTERVAL);
+        return countSuccesses(CheckedFunction.wrap(
+                CheckedFunction.instrumented(function(failureRatio), "function", registry)
+        ));
+    }
+
+    public static IntSupplier wrapWithHandler(double failureRatio) {
+        Function<Integer, Optional<Integer>> function = CheckedFunction.wrapWithHandler(
+                function(failureRatio),
+                (Integer value, Exception e) -> {
+                }
+        );
+        return () -> {
+            int successes = 0;
+            for (int i = 0; i < BATCH; i++) {
+                if (function.apply(i).isPresent()) successes++;
+            }
+            return successes;
+        };
+    }
+
+    private static CheckedFunction<Integer, Integer> function(double failureRatio) {
+        boolean[] failures = ResultWorkloads.failures(BATCH, failureRatio);
+        return value -> {
+            if (failures[value]) throw new Exception("Failed on " + value);
+            return value;
+        };
+    }
+
+    private static IntSupplier countSuccesses(Function<Integer, Integer> function) {
+        return () -> {
+            int successes = 0;
+            for (int i = 0; i < BATCH; i++) {
+                try {
+                    function.apply(i);
+                    successes++;
+                } catch (Exception e) {
+                    // Counted as failure
+                }
+            }
+            return successes;
+        };
+    }
+
+}
@@ -0,0 +1,98 @@
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+/**
+ * Workloads for {@code benchmarks.CollectionUtilsBenchmark}, each running an operation of {@link CollectionUtils} over
+ * {@value WIDTH} lists of given size & implementation, and reducing its output to an int.
+ * <br>
+ * Lives in the default package to reach the library, which benchmarks (required to be in a named package) can't.
+ */
+public class CollectionWorkloads {
+
+    private static final int WIDTH = 8;
+
+    public static IntSupplier zippedStream(int size, String implementation) {
+        List<Integer>[] lists = lists(size, implementation, false);
+        return () -> CollectionUtils.homogenousZippedStreamOf(lists).mapToInt(row -> row.get(WIDTH - 1)).sum();
+    }
+
+    public static IntSupplier zippedViewStream(int size, String implementation) {
+        List<Integer>[] lists = lists(size, implementation, false);
+        return () -> CollectionUtils.homogenousZippedViewStreamOf(lists).mapToInt(row -> row.get(WIDTH - 1)).sum();
+    }
+
+    public static IntSupplier transpose(int size, String implementation) {
+        List<List<Integer>> lists = List.of(lists(size, implementation, false));
+        return () -> CollectionUtils.transpose(lists).size();
+    }
+
+    /**
+     * Pads copies of lists of decreasing sizes, as padding is in-place (so copying is included in measurements)
+     */
+    public static IntSupplier padLists(int size, String implementation) {
+        List<Integer>[] lists = lists(size, implementation, true);
+        return () -> {
+            List<List<Integer>> copies = new ArrayList<>(WIDTH);
+            for (List<Integer> list : lists) copies.add(copy(list, implementation));
+            return sum(CollectionUtils.padListsWithDefault(copies, 0));
+        };
+    }
+
+    public static IntSupplier paddedViews(int size, String implementation) {
+        List<List<Integer>> lists = List.of(lists(size, implementation, true));
+        return () -> sum(CollectionUtils.paddedViewsWithDefault(lists, 0));
+    }
+
+    public static IntSupplier joinLists(int size, String implementation) {
+        List<Integer>[] lists = lists(size, implementation, false);
+        return () -> sum(List.of(CollectionUtils.joinLists(lists)));
+    }
+
+    public static IntSupplier joinListsAsView(int size, String implementation) {
+        List<Integer>[] lists = lists(size, implementation, false);
+        return () -> sum(List.of(CollectionUtils.joinListsAsView(lists)));
+    }
+
+    /**
+     * @param ragged Whether list sizes should decrease, down to half of given size
+     */
+    @SuppressWarnings("unchecked")
+    private static List<Integer>[] lists(int size, String implementation, boolean ragged) {
+        List<Integer>[] lists = new List[WIDTH];
+        for (int column = 0; column < WIDTH; column++) {
+            int columnSize = ragged ? size - column * size / (2 * WIDTH) : size;
+            List<Integer> list = newList(implementation);
+            for (int i = 0; i < columnSize; i++) list.add(i);
+            lists[column] = list;
+        }
+        return lists;
+    }
+
+    private static List<Integer> copy(List<Integer> list, String implementation) {
+        List<Integer> copy = newList(implementation);
+        copy.addAll(list);
+        return copy;
+    }
+
+    private static List<Integer> newList(String implementation) {
+        switch (implementation) {
+            case "ArrayList":
+                return new ArrayList<>();
+            case "LinkedList":
+                return new LinkedList<>();
+            default:
+                throw new IllegalArgumentException("Unknown list implementation: " + implementation);
+        }
+    }
+
+    private static int sum(List<List<Integer>> lists) {
+        int sum = 0;
+        for (List<Integer> list : lists) {
+            for (Integer element : list) sum += element;
+        }
+        return sum;
+    }
+
+}
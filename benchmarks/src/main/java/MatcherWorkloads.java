@@ -0,0 +1,47 @@
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Workloads for {@code benchmarks.MatcherBenchmark}, each mapping a value to the index of the arm matching it (or -1).
+ * <br>
+ * Lives in the default package to reach the library, which benchmarks (required to be in a named package) can't.
+ */
+public class MatcherWorkloads {
+
+    /**
+     * Arms of kind "matches" test equality (dispatched by hash when compiled), arms of kind "satisfies" run predicates
+     */
+    public static IntUnaryOperator when(int arms, String kind) {
+        Matcher<Integer, Integer>[] matchers = matchers(arms, kind);
+        return value -> Matcher.when(value, matchers).orElse(-1);
+    }
+
+    public static IntUnaryOperator compiled(int arms, String kind) {
+        CompiledMatcher<Integer, Integer> matcher = Matcher.whenValue(matchers(arms, kind));
+        return value -> matcher.applyOrElse(value, -1);
+    }
+
+    public static IntUnaryOperator exclusive(int arms, String kind) {
+        ExclusiveMatcher<Integer, Integer> matcher = Matcher.exclusive(matchers(arms, kind));
+        return value -> matcher.apply(value).orElse(-1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Matcher<Integer, Integer>[] matchers(int arms, String kind) {
+        Matcher<Integer, Integer>[] matchers = new Matcher[arms];
+        for (int i = 0; i < arms; i++) {
+            Integer arm = i;
+            switch (kind) {
+                case "matches":
+                    matchers[i] = Matcher.matches(arm, () -> arm);
+                    break;
+                case "satisfies":
+                    matchers[i] = Matcher.satisfies(value -> value.intValue() == arm, () -> arm);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown kind of arm: " + kind);
+            }
+        }
+        return matchers;
+    }
+
+}
@@ -0,0 +1,115 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntSupplier;
+
+/**
+ * Workloads for {@code benchmarks.ResultBenchmark}, each producing {@value BATCH} results of which a given ratio fail,
+ * and counting successes.
+ * <br>
+ * Lives in the default package to reach the library, which benchmarks (required to be in a named package) can't.
+ */
+public class ResultWorkloads {
+
+    private static final int BATCH = 1024;
+    private static final int TRAVERSED_ITEMS = 64;
+
+    /**
+     * Failures throw an exception, capturing its stack trace
+     */
+    public static IntSupplier generate(double failureRatio) {
+        boolean[] failures = failures(BATCH, failureRatio);
+        return () -> {
+            int successes = 0;
+            for (int i = 0; i < BATCH; i++) {
+                int item = i;
+                Result<Integer> result = Result.generate(() -> {
+                    if (failures[item]) throw new IllegalStateException("Failed on " + item);
+                    return item;
+                });
+                if (result.map(value -> value + 1).succeeded()) successes++;
+            }
+            return successes;
+        };
+    }
+
+    /**
+     * Failures are {@link ExpectedFailure}s, which skip capturing stack traces
+     */
+    public static IntSupplier failExpected(double failureRatio) {
+        boolean[] failures = failures(BATCH, failureRatio);
+        return () -> {
+            int successes = 0;
+            for (int i = 0; i < BATCH; i++) {
+                Result<Integer> result = failures[i] ? Result.failExpected("FAILED", "Failed") : Result.succeed(i);
+                if (result.map(value -> value + 1).succeeded()) successes++;
+            }
+            return successes;
+        };
+    }
+
+    /**
+     * Traverses {@value TRAVERSED_ITEMS} items at a time on given number of platform threads, or on virtual threads
+     * if 0, so each traversal fails (fast) if any item fails. Platform threads are stopped when the workload is closed.
+     */
+    public static IntSupplier traverse(double failureRatio, int threads) {
+        boolean[] failures = failures(TRAVERSED_ITEMS, failureRatio);
+        List<Integer> items = new ArrayList<>(TRAVERSED_ITEMS);
+        for (int i = 0; i < TRAVERSED_ITEMS; i++) items.add(i);
+        if (0 == threads) return new Traversal(items, failures, VirtualThreads.EXECUTOR, false);
+        ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r);
+            thread.setDaemon(true);
+            return thread;
+        });
+        return new Traversal(items, failures, executor, true);
+    }
+
+    private static final class Traversal implements IntSupplier, AutoCloseable {
+
+        private final List<Integer> items;
+        private final boolean[] failures;
+        private final ExecutorService executor;
+        private final boolean ownsExecutor;
+
+        Traversal(List<Integer> items, boolean[] failures, ExecutorService executor, boolean ownsExecutor) {
+            this.items = items;
+            this.failures = failures;
+            this.executor = executor;
+            this.ownsExecutor = ownsExecutor;
+        }
+
+        @Override
+        public int getAsInt() {
+            return Result.traverse(items, item -> {
+                if (failures[item]) throw new IllegalStateException("Failed on " + item);
+                return item;
+            }, executor).succeeded() ? 1 : 0;
+        }
+
+        @Override
+        public void close() {
+            if (ownsExecutor) executor.shutdownNow();
+        }
+
+    }
+
+    /**
+     * @return Flags marking given ratio of items (spread deterministically) as failing
+     */
+    static boolean[] failures(int items, double failureRatio) {
+        boolean[] failures = new boolean[items];
+        Random random = new Random(items);
+        for (int i = 0; i < (int) Math.round(items * failureRatio); ) {
+            int item = random.nextInt(items);
+            if (!failures[item]) {
+                failures[item] = true;
+                i++;
+            }
+        }
+        return failures;
+    }
+
+}
@@ -0,0 +1,40 @@
+package benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+
+/**
+ * Runs benchmarks matching given regexes (all if none) once per thread count, with the GC profiler reporting
+ * allocation rates, writing results of each run as JSON to {@code <results dir>/threads-<count>.json}.
+ * <br>
+ * Thread counts are read from system property {@code threads} (default "1,4"), results dir from {@code results.dir}
+ * (default "jmh-results"). Usage: <pre>{@code
+ *  java -Dthreads=1,8 -jar benchmarks/target/benchmarks.jar Matcher
+ * }</pre>
+ * Other JMH options can be given by running {@code org.openjdk.jmh.Main} from the same jar instead.
+ */
+public class BenchmarkMain {
+
+    public static void main(String[] args) throws RunnerException {
+        File resultsDir = new File(System.getProperty("results.dir", "jmh-results"));
+        if (!resultsDir.isDirectory() && !resultsDir.mkdirs()) {
+            throw new IllegalStateException("Can't create results dir " + resultsDir);
+        }
+        for (String threads : System.getProperty("threads", "1,4").split(",")) {
+            ChainedOptionsBuilder options = new OptionsBuilder()
+                    .threads(Integer.parseInt(threads.trim()))
+                    .addProfiler(GCProfiler.class)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result(new File(resultsDir, "threads-" + threads.trim() + ".json").getPath());
+            for (String include : args) options.include(include);
+            new Runner(options.build()).run();
+        }
+    }
+
+}
@@ -0,0 +1,48 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * Applying checked functions adapted by {@code CheckedFunction.wrap}, {@code wrapSneakily} & {@code wrapWithHandler},
+ * and wrapped after {@code instrumented} (timing all or a sample of calls), for given ratios of failures.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CheckedWrapperBenchmark {
+
+    @Param({"0.0", "0.01", "0.5"})
+    private double failureRatio;
+
+    @Param({"wrap", "wrapSneakily", "wrapWithHandler", "instrumented", "instrumentedSampled"})
+    private String adapter;
+
+    private IntSupplier workload;
+
+    @Setup
+    public void setUp() {
+        workload = Workloads.create(IntSupplier.class, "CheckedWorkloads", adapter, failureRatio);
+    }
+
+    @Benchmark
+    public int apply() {
+        return workload.getAsInt();
+    }
+
+}
@@ -0,0 +1,58 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * Zipping, transposing, padding & joining 8 lists, copying elements or through views.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollectionUtilsBenchmark {
+
+    @Param({"16", "1024", "65536"})
+    private int size;
+
+    @Param({"ArrayList", "LinkedList"})
+    private String implementation;
+
+    @Param({
+            "zippedStream",
+            "zippedViewStream",
+            "transpose",
+            "padLists",
+            "paddedViews",
+            "joinLists",
+            "joinListsAsView"
+    })
+    private String operation;
+
+    private IntSupplier workload;
+
+    @Setup
+    public void setUp() {
+        workload = Workloads.create(IntSupplier.class, "CollectionWorkloads", operation, size, implementation);
+    }
+
+    @Benchmark
+    public int run() {
+        return workload.getAsInt();
+    }
+
+}
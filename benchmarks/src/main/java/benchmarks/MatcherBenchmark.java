@@ -0,0 +1,59 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Matching {@value VALUES} values uniformly spread over all arms (& no arm), by {@code Matcher.when}, a compiled
+ * matcher & an exclusive matcher.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatcherBenchmark {
+
+    private static final int VALUES = 1024;
+
+    @Param({"2", "8", "32"})
+    private int arms;
+
+    @Param({"matches", "satisfies"})
+    private String kind;
+
+    @Param({"when", "compiled", "exclusive"})
+    private String strategy;
+
+    private IntUnaryOperator matcher;
+    private int[] values;
+
+    @Setup
+    public void setUp() {
+        matcher = Workloads.create(IntUnaryOperator.class, "MatcherWorkloads", strategy, arms, kind);
+        Random random = new Random(arms);
+        values = random.ints(VALUES, 0, arms + 1).toArray();
+    }
+
+    @Benchmark
+    public int match() {
+        int sum = 0;
+        for (int value : values) sum += matcher.applyAsInt(value);
+        return sum;
+    }
+
+}
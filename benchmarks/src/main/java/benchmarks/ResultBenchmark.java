@@ -0,0 +1,51 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * Creating & mapping results for given ratios of failures, by throwing or by failing with expected failures.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultBenchmark {
+
+    @Param({"0.0", "0.01", "0.5"})
+    private double failureRatio;
+
+    private IntSupplier generate;
+    private IntSupplier failExpected;
+
+    @Setup
+    public void setUp() {
+        generate = Workloads.create(IntSupplier.class, "ResultWorkloads", "generate", failureRatio);
+        failExpected = Workloads.create(IntSupplier.class, "ResultWorkloads", "failExpected", failureRatio);
+    }
+
+    @Benchmark
+    public int generate() {
+        return generate.getAsInt();
+    }
+
+    @Benchmark
+    public int failExpected() {
+        return failExpected.getAsInt();
+    }
+
+}
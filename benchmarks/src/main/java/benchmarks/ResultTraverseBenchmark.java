@@ -0,0 +1,56 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * Traversing items concurrently on given numbers of threads, for given ratios of failures.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultTraverseBenchmark {
+
+    @Param({"0.0", "0.01", "0.5"})
+    private double failureRatio;
+
+    /**
+     * Threads to traverse on, 0 for virtual threads
+     */
+    @Param({"0", "1", "4"})
+    private int threads;
+
+    private IntSupplier traverse;
+
+    @Setup
+    public void setUp() {
+        traverse = Workloads.create(IntSupplier.class, "ResultWorkloads", "traverse", failureRatio, threads);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        Workloads.close(traverse);
+    }
+
+    @Benchmark
+    public int traverse() {
+        return traverse.getAsInt();
+    }
+
+}
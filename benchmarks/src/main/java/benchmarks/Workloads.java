@@ -0,0 +1,45 @@
+package benchmarks;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Looks up workloads built by the default package classes of this module: JMH refuses benchmarks in the default
+ * package, while classes of named packages can't refer to the library, which is in the default package.
+ * Lookups happen once per trial, so benchmarks only pay for calls through the JDK functional interfaces workloads are
+ * built as.
+ */
+final class Workloads {
+
+    private Workloads() {
+    }
+
+    /**
+     * @param type          Type of workload
+     * @param factoryClass  Name of default package class building it
+     * @param factoryMethod Name of static method building it, taking given arguments
+     */
+    static <W> W create(Class<W> type, String factoryClass, String factoryMethod, Object... arguments) {
+        try {
+            for (Method method : Class.forName(factoryClass).getMethods()) {
+                if (method.getName().equals(factoryMethod) && method.getParameterCount() == arguments.length) {
+                    return type.cast(method.invoke(null, arguments));
+                }
+            }
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("Failed to create workload " + factoryMethod, e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to create workload " + factoryMethod, e);
+        }
+        throw new IllegalArgumentException("Unknown workload " + factoryClass + "." + factoryMethod);
+    }
+
+    /**
+     * Releases resources (eg. threads) held by given workload, if it holds any, so that trials run in the same JVM
+     * (without forking) don't accumulate them
+     */
+    static void close(Object workload) throws Exception {
+        if (workload instanceof AutoCloseable) ((AutoCloseable) workload).close();
+    }
+
+}